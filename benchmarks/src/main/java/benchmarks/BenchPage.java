@@ -0,0 +1,27 @@
+package benchmarks;
+
+import base.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+
+public class BenchPage extends BasePage {
+
+    public BenchPage(WebDriver driver) {
+        super(driver);
+    }
+
+    public void click(By locator) {
+        safeClick(locator);
+    }
+
+    public WebElement visible(By locator, Duration timeout) {
+        return waitForVisible(locator, timeout);
+    }
+
+    public void countAtLeast(By locator, int minCount, Duration timeout) {
+        waitUntilCountAtLeast(locator, minCount, timeout);
+    }
+}
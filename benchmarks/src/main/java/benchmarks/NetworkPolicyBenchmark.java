@@ -0,0 +1,44 @@
+package benchmarks;
+
+import base.NetworkPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmarks.xml")
+public class NetworkPolicyBenchmark {
+
+    @Param({
+            "https://insiderone.com/careers/open-positions/?department=qualityassurance",
+            "https://www.googletagmanager.com/gtm.js?id=GTM-XXXX",
+            "https://insiderone.com/wp-content/themes/insider/fonts/inter.woff2"
+    })
+    public String url;
+
+    private NetworkPolicy policy;
+
+    @Setup
+    public void setUp() {
+        policy = NetworkPolicy.defaults().withAllow("api\\.lever\\.co");
+    }
+
+    @Benchmark
+    public boolean blocks() {
+        return policy.blocks(url);
+    }
+}
@@ -0,0 +1,92 @@
+package benchmarks;
+
+import fixtures.FixtureServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import pages.QAJobsPage;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmarks.xml")
+public class PageObjectBenchmark {
+
+    private static final By BUTTON = By.id("bench-button");
+    private static final By JOB_CARDS = By.cssSelector("#jobs-list .position-list-item");
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Param({"10", "100", "500"})
+    public int cardCount;
+
+    @Param({"0", "5000"})
+    public int fillerNodes;
+
+    private FixtureServer server;
+    private WebDriver driver;
+    private BenchPage page;
+    private QAJobsPage qaJobs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = FixtureServer.start(FixtureServer.Options.defaults());
+
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1920,1080");
+        driver = new ChromeDriver(options);
+        driver.get(server.baseUrl() + "/fixtures/job-cards?count=" + cardCount + "&filler=" + fillerNodes);
+
+        page = new BenchPage(driver);
+        qaJobs = new QAJobsPage(driver);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Benchmark
+    public void safeClick() {
+        page.click(BUTTON);
+    }
+
+    @Benchmark
+    public WebElement waitForVisible() {
+        return page.visible(JOB_CARDS, TIMEOUT);
+    }
+
+    @Benchmark
+    public void waitUntilCountAtLeast() {
+        page.countAtLeast(JOB_CARDS, cardCount, TIMEOUT);
+    }
+
+    @Benchmark
+    public boolean waitForJobListToBePopulated() {
+        return qaJobs.qaJobs_waitForJobCardsLoaded();
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import base.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmarks.xml")
+public class TextBenchmark {
+
+    private static final String CARD_TEXT = "  Senior Software   Quality Assurance\n\tEngineer  \r\n Istanbul,  Turkiye ";
+
+    @Param({"64", "1024", "16384"})
+    public int length;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = CARD_TEXT.repeat(length / CARD_TEXT.length() + 1).substring(0, length);
+    }
+
+    @Benchmark
+    public String normalizeWhitespace() {
+        return Text.normalizeWhitespace(input);
+    }
+
+    @Benchmark
+    public String replaceAllBaseline() {
+        return input.replaceAll("\\s+", " ").trim();
+    }
+}
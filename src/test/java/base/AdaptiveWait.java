@@ -0,0 +1,88 @@
+package base;
+
+import metrics.WaitTimings;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+// WebDriverWait whose poll interval starts small and grows geometrically up to a cap, restarting on every until().
+public class AdaptiveWait extends WebDriverWait {
+
+    private static final boolean ADAPTIVE = TestConfig.booleanProperty("wait.adaptive", true);
+    private static final Duration FIXED_POLL = Duration.ofMillis(200);
+    private static final long INITIAL_POLL_NANOS = TestConfig.millisProperty("wait.poll.initialMillis", 15).toNanos();
+    private static final long MAX_POLL_NANOS = TestConfig.millisProperty("wait.poll.maxMillis", 500).toNanos();
+    private static final double MULTIPLIER = TestConfig.doubleProperty("wait.poll.multiplier", 2.0);
+
+    private final Backoff backoff;
+    private Duration timeout;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, new Backoff());
+    }
+
+    private AdaptiveWait(WebDriver driver, Duration timeout, Backoff backoff) {
+        super(driver, timeout, FIXED_POLL, Clock.systemDefaultZone(), backoff);
+        this.backoff = backoff;
+        this.timeout = timeout;
+    }
+
+    public static boolean adaptive() {
+        return ADAPTIVE;
+    }
+
+    @Override
+    public AdaptiveWait withTimeout(Duration timeout) {
+        super.withTimeout(timeout);
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        backoff.reset(timeout);
+        long startNanos = System.nanoTime();
+        try {
+            V value = super.until(isTrue);
+            WaitTimings.record(WaitTimings.Outcome.SATISFIED, System.nanoTime() - startNanos, backoff.polls + 1);
+            return value;
+        } catch (TimeoutException e) {
+            WaitTimings.record(WaitTimings.Outcome.TIMED_OUT, System.nanoTime() - startNanos, backoff.polls + 1);
+            throw e;
+        } catch (RuntimeException e) {
+            WaitTimings.record(WaitTimings.Outcome.FAILED, System.nanoTime() - startNanos, backoff.polls + 1);
+            throw e;
+        }
+    }
+
+    // Ignores the configured polling interval when adaptive; never sleeps past the wait's deadline.
+    private static final class Backoff implements Sleeper {
+
+        private long nextNanos;
+        private long deadlineNanos;
+        private int polls;
+
+        private void reset(Duration timeout) {
+            nextNanos = INITIAL_POLL_NANOS;
+            deadlineNanos = System.nanoTime() + timeout.toNanos();
+            polls = 0;
+        }
+
+        @Override
+        public void sleep(Duration fixed) throws InterruptedException {
+            polls++;
+            long sleepNanos = ADAPTIVE ? nextNanos : fixed.toNanos();
+            if (ADAPTIVE) {
+                nextNanos = Math.min(MAX_POLL_NANOS, Math.max(nextNanos + 1, (long) (nextNanos * MULTIPLIER)));
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            Thread.sleep(Duration.ofNanos(Math.max(1_000_000, Math.min(sleepNanos, remainingNanos + 1_000_000))));
+        }
+    }
+}
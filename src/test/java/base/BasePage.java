@@ -1,6 +1,10 @@
 package base;
 
+import metrics.ConsentWaits;
+import metrics.PageLoadTimings;
+import metrics.WaitTimings;
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Select;
@@ -8,13 +12,16 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public abstract class BasePage {
 
     protected static final Duration DEFAULT_WAIT = Duration.ofSeconds(10);
+    private static final boolean IN_PAGE_WAITS = TestConfig.booleanProperty("wait.inPage", true);
 
     protected final WebDriver driver;
     protected final Logger logger;
@@ -27,38 +34,112 @@ public abstract class BasePage {
     protected BasePage(WebDriver driver) {
         this.driver = driver;
         this.logger = LoggerFactory.getLogger(getClass());
-        this.wait = new WebDriverWait(driver, DEFAULT_WAIT);
-        this.wait.pollingEvery(Duration.ofMillis(200));
+        this.wait = new AdaptiveWait(driver, DEFAULT_WAIT);
         this.wait.ignoring(NoSuchElementException.class);
         this.wait.ignoring(StaleElementReferenceException.class);
     }
 
     protected void open(String url) {
         logger.info("Navigate: {}", url);
+        NetworkPolicyInterceptor.apply(driver, getClass().getSimpleName(), networkPolicy());
+        PageLoadTimings.collectPending(driver);
+        ConsentSeed.seed(driver);
         driver.get(url);
-        waitForDocumentReady(Duration.ofSeconds(20));
+        waitForReady(Duration.ofSeconds(20));
     }
 
-    protected void acceptCookiesIfPresent() {
+    // What this page object needs before it is usable; under EAGER/NONE this is all open() waits for.
+    protected ExpectedCondition<?> readiness() {
+        return d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState"));
+    }
+
+    // For pages reached by a click or a new tab rather than open(): applies this page's network policy to the current
+    // tab for the requests it makes from now on (a new tab's first document is already loaded unfiltered) and waits on
+    // the same readiness check.
+    public void awaitReady() {
+        NetworkPolicyInterceptor.apply(driver, getClass().getSimpleName(), networkPolicy());
+        waitForReady(Duration.ofSeconds(20));
+    }
+
+    protected void waitForReady(Duration timeout) {
+        logger.debug("Wait page ready ({} page load strategy)", DriverFactory.pageLoadStrategy());
+        fluentWait(timeout).until(readiness());
+        PageLoadTimings.recordReady(driver, getClass().getSimpleName());
+    }
+
+    // Navigation triggered by a click: only wait for the full load when the driver itself would have.
+    protected void waitForNavigation(Duration timeout) {
+        if (DriverFactory.pageLoadStrategy() == PageLoadStrategy.NORMAL) {
+            waitForDocumentReady(timeout);
+            return;
+        }
+        logger.debug("Wait document.readyState!=loading");
+        fluentWait(timeout).until(d -> {
+            Object state = ((JavascriptExecutor) d).executeScript("return document.readyState");
+            return state != null && !"loading".equals(state);
+        });
+    }
+
+    protected NetworkPolicy networkPolicy() {
+        return NetworkPolicy.defaults();
+    }
+
+    protected boolean acceptCookiesIfPresent() {
         try {
             List<WebElement> banners = driver.findElements(cookieBanner);
             if (banners.isEmpty()) {
                 logger.debug("Cookie banner not present.");
-                return;
+                return false;
             }
 
             WebElement banner = banners.getFirst();
             if (!banner.isDisplayed()) {
                 logger.debug("Cookie banner present but not displayed.");
-                return;
+                return false;
             }
 
             WebDriverWait shortWait = shortWait(Duration.ofSeconds(3));
             shortWait.until(ExpectedConditions.elementToBeClickable(cookieAcceptBtn)).click();
             shortWait.until(ExpectedConditions.invisibilityOfElementLocated(cookieBanner));
             logger.info("Accepted cookies (cookie banner closed).");
+            return true;
         } catch (RuntimeException e) {
             logger.warn("acceptCookiesIfPresent failed (non-fatal).", e);
+            return false;
+        }
+    }
+
+    // Waits up to the timeout for the cookie banner unless consent is already known (seeded or accepted) for this origin.
+    public boolean acceptCookieBanner(Duration timeout) {
+        OverlayGuard guard = OverlayGuard.of(driver);
+        String origin = currentOrigin();
+        if (guard.hasConsent(origin)) {
+            logger.info("Cookie consent already given for {}; skipping cookie popup wait.", origin);
+            ConsentWaits.recordSkipped(timeout);
+            return false;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            WebDriverWait cookieWait = shortWait(timeout);
+            cookieWait.until(ExpectedConditions.elementToBeClickable(cookieAcceptBtn)).click();
+            guard.rememberConsent(origin);
+            logger.info("Cookie popup detected and accepted.");
+            try {
+                shortWait(Duration.ofSeconds(3)).until(ExpectedConditions.invisibilityOfElementLocated(cookieBanner));
+            } catch (TimeoutException e) {
+                logger.debug("Cookie banner still visible after accepting (continuing).");
+            }
+            ConsentSeed.capture(driver);
+            return true;
+        } catch (TimeoutException e) {
+            logger.info("No cookie popup detected within {} seconds. Continuing.", timeout.getSeconds());
+            return false;
+        } catch (RuntimeException e) {
+            logger.warn("Cookie popup handling failed (non-fatal). Continuing.", e);
+            return false;
+        } finally {
+            ConsentWaits.recordWaited(System.nanoTime() - startNanos);
         }
     }
 
@@ -83,23 +164,48 @@ public abstract class BasePage {
         }
     }
 
-    protected void beforeActionGuards() {
-        acceptCookiesIfPresent();
-        closeMarketingPopupIfPresentShort();
+    // Scrolls the action's target into view; the same script reports a visible cookie banner or popup, so the guard
+    // costs an extra round trip only when an overlay actually appeared.
+    protected void scrollIntoViewGuarded(WebElement el) {
+        OverlayGuard guard = OverlayGuard.of(driver);
+        OverlayGuard.Probe probe;
+        try {
+            probe = guard.scrollIntoViewAndProbe(driver, el);
+        } catch (JavascriptException e) {
+            logger.debug("Overlay probe failed; relying on intercepted-click retries.", e);
+            return;
+        }
+
+        if (probe.cookieBannerVisible()) {
+            ConsentSeed.invalidate(probe.origin());
+            if (acceptCookiesIfPresent()) {
+                guard.rememberConsent(probe.origin());
+                ConsentSeed.capture(driver);
+            }
+        }
+        if (probe.popupVisible()) {
+            closeMarketingPopupIfPresentShort();
+        }
+    }
+
+    protected String currentOrigin() {
+        try {
+            URI uri = URI.create(driver.getCurrentUrl());
+            return uri.getScheme() + "://" + uri.getAuthority();
+        } catch (RuntimeException e) {
+            return null;
+        }
     }
 
     protected FluentWait<WebDriver> fluentWait(Duration timeout) {
-        return new FluentWait<>(driver)
-                .withTimeout(timeout)
-                .pollingEvery(Duration.ofMillis(200))
+        return new AdaptiveWait(driver, timeout)
                 .ignoring(NoSuchElementException.class)
                 .ignoring(StaleElementReferenceException.class)
                 .ignoring(ElementClickInterceptedException.class);
     }
 
     protected WebDriverWait shortWait(Duration timeout) {
-        WebDriverWait shortWait = new WebDriverWait(driver, timeout);
-        shortWait.pollingEvery(Duration.ofMillis(200));
+        WebDriverWait shortWait = new AdaptiveWait(driver, timeout);
         shortWait.ignoring(NoSuchElementException.class);
         shortWait.ignoring(StaleElementReferenceException.class);
         return shortWait;
@@ -115,48 +221,36 @@ public abstract class BasePage {
         return fluentWait(timeout).until(ExpectedConditions.elementToBeClickable(locator));
     }
 
+    // Retry rules, budget and backoff for safeClick/safeSelectByVisibleText; page objects can tune them per page.
+    protected RetryPolicy retryPolicy() {
+        return RetryPolicy.defaults();
+    }
+
     protected void safeClick(By locator) {
-        beforeActionGuards();
         logger.info("Safe click: {}", locator);
         try {
-            WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
-            scrollIntoView(el);
-            el.click();
-        } catch (ElementClickInterceptedException e) {
-            logger.warn("Click intercepted, retrying once: {}", locator, e);
-            closeMarketingPopupIfPresentShort();
-            try {
-                WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
-                scrollIntoView(el);
+            retryPolicy().execute(locator.toString(), DEFAULT_WAIT, true, timeout -> {
+                WebElement el = shortWait(timeout).until(ExpectedConditions.elementToBeClickable(locator));
+                scrollIntoViewGuarded(el);
                 el.click();
-            } catch (RuntimeException retryException) {
-                logger.error("Safe click failed after retry: {}", locator, retryException);
-                throw retryException;
-            }
+                return null;
+            }, this::dismissOverlays);
         } catch (RuntimeException e) {
             logger.error("Safe click failed: {}", locator, e);
             throw e;
         }
     }
 
+    // Without a locator a stale element cannot be found again, so only intercepted clicks are retried.
     protected void safeClick(WebElement el) {
-        beforeActionGuards();
         logger.info("Safe click: WebElement");
         try {
-            WebElement clickable = wait.until(ExpectedConditions.elementToBeClickable(el));
-            scrollIntoView(clickable);
-            clickable.click();
-        } catch (ElementClickInterceptedException e) {
-            logger.warn("Click intercepted, retrying once: WebElement", e);
-            closeMarketingPopupIfPresentShort();
-            try {
-                WebElement clickable = wait.until(ExpectedConditions.elementToBeClickable(el));
-                scrollIntoView(clickable);
+            retryPolicy().execute(describe(el), DEFAULT_WAIT, false, timeout -> {
+                WebElement clickable = shortWait(timeout).until(ExpectedConditions.elementToBeClickable(el));
+                scrollIntoViewGuarded(clickable);
                 clickable.click();
-            } catch (RuntimeException retryException) {
-                logger.error("Safe click failed after retry: WebElement", retryException);
-                throw retryException;
-            }
+                return null;
+            }, this::dismissOverlays);
         } catch (RuntimeException e) {
             logger.error("Safe click failed: WebElement", e);
             throw e;
@@ -165,30 +259,33 @@ public abstract class BasePage {
 
     protected void safeSelectByVisibleText(By selectLocator, String text) {
         Objects.requireNonNull(text, "text");
-        beforeActionGuards();
         logger.info("Safe select by visible text: {} -> {}", selectLocator, text);
 
         try {
-            WebElement el = wait.until(ExpectedConditions.visibilityOfElementLocated(selectLocator));
-            scrollIntoView(el);
-            new Select(el).selectByVisibleText(text);
-        } catch (StaleElementReferenceException | ElementClickInterceptedException e) {
-            logger.warn("Select failed ({}), retrying once: {} -> {}", e.getClass().getSimpleName(), selectLocator, text, e);
-            closeMarketingPopupIfPresentShort();
-            try {
-                WebElement el = wait.until(ExpectedConditions.visibilityOfElementLocated(selectLocator));
-                scrollIntoView(el);
+            retryPolicy().execute(selectLocator.toString(), DEFAULT_WAIT, true, timeout -> {
+                WebElement el = shortWait(timeout).until(ExpectedConditions.visibilityOfElementLocated(selectLocator));
+                scrollIntoViewGuarded(el);
                 new Select(el).selectByVisibleText(text);
-            } catch (RuntimeException retryException) {
-                logger.error("Safe select failed after retry: {} -> {}", selectLocator, text, retryException);
-                throw retryException;
-            }
+                return null;
+            }, this::dismissOverlays);
         } catch (RuntimeException e) {
             logger.error("Safe select failed: {} -> {}", selectLocator, text, e);
             throw e;
         }
     }
 
+    private void dismissOverlays() {
+        closeMarketingPopupIfPresentShort();
+        acceptCookiesIfPresent();
+    }
+
+    // RemoteWebElement.toString() ends with the locator chain it was found by; the session prefix is dropped.
+    private static String describe(WebElement el) {
+        String text = String.valueOf(el);
+        int chain = text.indexOf(" -> ");
+        return chain < 0 ? "WebElement" : text.substring(chain + " -> ".length(), text.length() - (text.endsWith("]") ? 1 : 0));
+    }
+
     protected String getText(By locator) {
         return getText(locator, Duration.ofSeconds(15));
     }
@@ -221,4 +318,351 @@ public abstract class BasePage {
         fluentWait(timeout).until(d -> d.findElements(locator).size() >= minCount);
     }
 
+    protected void armDomSettle(By container) {
+        logger.debug("Arm DOM settle observer: {}", container);
+        WebElement target = driver.findElement(container);
+        ((JavascriptExecutor) driver).executeScript(ARM_DOM_SETTLE_SCRIPT, target);
+    }
+
+    // Stops the observer armDomSettle installed when another signal already answered the wait.
+    protected void disarmDomSettle() {
+        try {
+            ((JavascriptExecutor) driver).executeScript(DISARM_DOM_SETTLE_SCRIPT);
+        } catch (RuntimeException e) {
+            logger.debug("Could not disarm DOM settle observer (ignored).", e);
+        }
+    }
+
+    protected boolean waitForDomSettled(Duration quietWindow, Duration firstChangeTimeout, Duration timeout) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration previousScriptTimeout = timeouts.getScriptTimeout();
+        timeouts.scriptTimeout(timeout.plusSeconds(2));
+        try {
+            Object raw = ((JavascriptExecutor) driver).executeAsyncScript(
+                    WAIT_DOM_SETTLED_SCRIPT,
+                    quietWindow.toMillis(),
+                    firstChangeTimeout.toMillis(),
+                    timeout.toMillis()
+            );
+            Map<?, ?> result = raw instanceof Map<?, ?> map ? map : Map.of();
+            boolean settled = Boolean.TRUE.equals(result.get("settled"));
+            logger.info(
+                    "DOM settle: settled={}, reason={}, mutations={}, waitedMs={}",
+                    settled,
+                    result.get("reason"),
+                    result.get("mutations"),
+                    result.get("waitedMs")
+            );
+            return settled;
+        } catch (RuntimeException e) {
+            logger.warn("waitForDomSettled failed (non-fatal).", e);
+            return false;
+        } finally {
+            timeouts.scriptTimeout(previousScriptTimeout);
+        }
+    }
+
+    // Counts in-flight fetch/XHR requests whose URL matches the pattern (JavaScript regex), from this point on.
+    protected boolean armNetworkIdle(String urlPattern) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(ARM_NETWORK_IDLE_SCRIPT, urlPattern);
+            logger.debug("Armed network idle tracking: {}", urlPattern);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Could not arm network idle tracking (non-fatal).", e);
+            return false;
+        }
+    }
+
+    // True once at least one matching request completed (body read) and none was in flight for the idle window.
+    protected boolean waitForNetworkIdle(Duration idleWindow, Duration firstRequestTimeout, Duration timeout) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration previousScriptTimeout = timeouts.getScriptTimeout();
+        timeouts.scriptTimeout(timeout.plusSeconds(2));
+        long startNanos = System.nanoTime();
+        try {
+            Object raw = ((JavascriptExecutor) driver).executeAsyncScript(
+                    WAIT_NETWORK_IDLE_SCRIPT,
+                    idleWindow.toMillis(),
+                    firstRequestTimeout.toMillis(),
+                    timeout.toMillis()
+            );
+            Map<?, ?> result = raw instanceof Map<?, ?> map ? map : Map.of();
+            boolean idle = Boolean.TRUE.equals(result.get("idle"));
+            WaitTimings.recordInPage(idle ? WaitTimings.Outcome.SATISFIED : WaitTimings.Outcome.TIMED_OUT, System.nanoTime() - startNanos);
+            logger.info(
+                    "Network idle: idle={}, reason={}, requests={}, failed={}, inFlight={}, waitedMs={}",
+                    idle,
+                    result.get("reason"),
+                    result.get("requests"),
+                    result.get("failed"),
+                    result.get("inFlight"),
+                    result.get("waitedMs")
+            );
+            return idle;
+        } catch (RuntimeException e) {
+            WaitTimings.recordInPage(WaitTimings.Outcome.FAILED, System.nanoTime() - startNanos);
+            logger.warn("waitForNetworkIdle failed (non-fatal).", e);
+            return false;
+        } finally {
+            timeouts.scriptTimeout(previousScriptTimeout);
+        }
+    }
+
+    // Blocks inside the page until the script predicate returns truthy (one round trip); polls it adaptively if the async script fails.
+    protected void waitInPage(String predicate, Duration timeout, Object... args) {
+        if (!IN_PAGE_WAITS) {
+            fluentWait(timeout).until(d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(predicate, args)));
+            return;
+        }
+
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration previousScriptTimeout = timeouts.getScriptTimeout();
+        timeouts.scriptTimeout(timeout.plusSeconds(2));
+        long startNanos = System.nanoTime();
+        Object[] scriptArgs = new Object[args.length + 1];
+        scriptArgs[0] = timeout.toMillis();
+        System.arraycopy(args, 0, scriptArgs, 1, args.length);
+        Map<?, ?> result;
+        try {
+            Object raw = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_IN_PAGE_SCRIPT.replace("/*PREDICATE*/", predicate), scriptArgs);
+            result = raw instanceof Map<?, ?> map ? map : Map.of();
+        } catch (RuntimeException e) {
+            logger.warn("In-page wait failed; falling back to polling.", e);
+            fluentWait(timeout.minusNanos(System.nanoTime() - startNanos))
+                    .until(d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(predicate, args)));
+            return;
+        } finally {
+            timeouts.scriptTimeout(previousScriptTimeout);
+        }
+
+        long nanos = System.nanoTime() - startNanos;
+        boolean satisfied = Boolean.TRUE.equals(result.get("satisfied"));
+        WaitTimings.recordInPage(satisfied ? WaitTimings.Outcome.SATISFIED : WaitTimings.Outcome.TIMED_OUT, nanos);
+        logger.debug("In-page wait: satisfied={}, checks={}, waitedMs={}", satisfied, result.get("checks"), result.get("waitedMs"));
+        if (!satisfied) {
+            throw new TimeoutException("In-page condition not satisfied within " + timeout.toMillis() + "ms"
+                    + (result.get("error") == null ? "" : " (last error: " + result.get("error") + ")"));
+        }
+    }
+
+    private static final String ARM_DOM_SETTLE_SCRIPT = """
+            var previous = window.__domSettle;
+            if (previous && previous.observer) {
+                previous.observer.disconnect();
+            }
+            var state = { mutations: 0, armedAt: performance.now(), last: performance.now() };
+            state.observer = new MutationObserver(function (records) {
+                state.mutations += records.length;
+                state.last = performance.now();
+            });
+            state.observer.observe(arguments[0], { childList: true, subtree: true, characterData: true });
+            window.__domSettle = state;
+            """;
+
+    private static final String DISARM_DOM_SETTLE_SCRIPT = """
+            var state = window.__domSettle;
+            if (state && state.observer) {
+                state.observer.disconnect();
+            }
+            window.__domSettle = null;
+            """;
+
+    private static final String WAIT_DOM_SETTLED_SCRIPT = """
+            var quiet = arguments[0], firstChange = arguments[1], timeout = arguments[2];
+            var done = arguments[arguments.length - 1];
+            var state = window.__domSettle;
+            var start = performance.now();
+            var finish = function (settled, reason) {
+                if (state && state.observer) {
+                    state.observer.disconnect();
+                }
+                window.__domSettle = null;
+                done({
+                    settled: settled,
+                    reason: reason,
+                    mutations: state ? state.mutations : 0,
+                    waitedMs: Math.round(performance.now() - start)
+                });
+            };
+            if (!state) {
+                finish(false, 'not-armed');
+                return;
+            }
+            (function check() {
+                var now = performance.now();
+                if (state.mutations > 0 && now - state.last >= quiet) {
+                    finish(true, 'quiet');
+                } else if (state.mutations === 0 && now - state.armedAt >= firstChange) {
+                    finish(true, 'unchanged');
+                } else if (now - start >= timeout) {
+                    finish(false, 'timeout');
+                } else {
+                    setTimeout(check, Math.max(10, Math.min(50, quiet / 4)));
+                }
+            })();
+            """;
+
+    // Wraps fetch and XMLHttpRequest once per document; re-arming only swaps the filter and resets the counters.
+    // A fetch counts as finished when its body has been read, so "idle" means the data has arrived.
+    private static final String ARM_NETWORK_IDLE_SCRIPT = """
+            var tracker = window.__netIdle;
+            if (!tracker) {
+                tracker = window.__netIdle = {};
+                var begin = function (url) {
+                    if (!tracker.filter || !tracker.filter.test(String(url))) {
+                        return null;
+                    }
+                    var generation = tracker.generation;
+                    tracker.started++;
+                    tracker.inFlight++;
+                    tracker.last = performance.now();
+                    var ended = false;
+                    return function (ok) {
+                        if (ended || generation !== tracker.generation) {
+                            return;
+                        }
+                        ended = true;
+                        tracker.inFlight--;
+                        tracker.finished++;
+                        if (!ok) {
+                            tracker.failed++;
+                        }
+                        tracker.last = performance.now();
+                    };
+                };
+                if (window.fetch) {
+                    var originalFetch = window.fetch;
+                    window.fetch = function (input, init) {
+                        var end = begin(input && input.url ? input.url : input);
+                        var pending = originalFetch.apply(this, arguments);
+                        if (!end) {
+                            return pending;
+                        }
+                        return pending.then(function (response) {
+                            try {
+                                response.clone().arrayBuffer().then(function () { end(response.ok); }, function () { end(false); });
+                            } catch (e) {
+                                end(response.ok);
+                            }
+                            return response;
+                        }, function (error) {
+                            end(false);
+                            throw error;
+                        });
+                    };
+                }
+                var originalOpen = XMLHttpRequest.prototype.open;
+                var originalSend = XMLHttpRequest.prototype.send;
+                XMLHttpRequest.prototype.open = function (method, url) {
+                    this.__netIdleUrl = url;
+                    return originalOpen.apply(this, arguments);
+                };
+                XMLHttpRequest.prototype.send = function () {
+                    var end = begin(this.__netIdleUrl);
+                    if (end) {
+                        var xhr = this;
+                        xhr.addEventListener('loadend', function () { end(xhr.status >= 200 && xhr.status < 400); });
+                    }
+                    return originalSend.apply(this, arguments);
+                };
+            }
+            tracker.filter = new RegExp(arguments[0]);
+            tracker.generation = (tracker.generation || 0) + 1;
+            tracker.started = 0;
+            tracker.finished = 0;
+            tracker.failed = 0;
+            tracker.inFlight = 0;
+            tracker.armedAt = performance.now();
+            tracker.last = tracker.armedAt;
+            """;
+
+    private static final String WAIT_NETWORK_IDLE_SCRIPT = """
+            var idleWindow = arguments[0], firstRequest = arguments[1], timeout = arguments[2];
+            var done = arguments[arguments.length - 1];
+            var tracker = window.__netIdle;
+            var start = performance.now();
+            var finish = function (idle, reason) {
+                done({
+                    idle: idle,
+                    reason: reason,
+                    requests: tracker ? tracker.started : 0,
+                    failed: tracker ? tracker.failed : 0,
+                    inFlight: tracker ? tracker.inFlight : 0,
+                    waitedMs: Math.round(performance.now() - start)
+                });
+            };
+            if (!tracker || !tracker.filter) {
+                finish(false, 'not-armed');
+                return;
+            }
+            (function check() {
+                var now = performance.now();
+                if (tracker.started > 0 && tracker.inFlight === 0 && now - tracker.last >= idleWindow) {
+                    finish(true, 'idle');
+                } else if (tracker.started === 0 && now - tracker.armedAt >= firstRequest) {
+                    finish(false, 'no-request');
+                } else if (now - start >= timeout) {
+                    finish(false, 'timeout');
+                } else {
+                    setTimeout(check, Math.max(10, Math.min(50, idleWindow / 4)));
+                }
+            })();
+            """;
+
+    // Re-checks on DOM mutations and animation frames, with a timer backstop for background tabs.
+    private static final String WAIT_IN_PAGE_SCRIPT = """
+            var timeout = arguments[0];
+            var args = Array.prototype.slice.call(arguments, 1, arguments.length - 1);
+            var done = arguments[arguments.length - 1];
+            var predicate = function () {
+                /*PREDICATE*/
+            };
+            var start = performance.now(), checks = 0, finished = false, lastError = null, observer, timer;
+            var finish = function (satisfied) {
+                if (finished) {
+                    return;
+                }
+                finished = true;
+                if (observer) {
+                    observer.disconnect();
+                }
+                clearInterval(timer);
+                done({ satisfied: satisfied, checks: checks, waitedMs: Math.round(performance.now() - start), error: lastError });
+            };
+            var check = function () {
+                if (finished) {
+                    return;
+                }
+                checks++;
+                try {
+                    if (predicate.apply(null, args)) {
+                        finish(true);
+                        return;
+                    }
+                } catch (e) {
+                    lastError = String(e);
+                }
+                if (performance.now() - start >= timeout) {
+                    finish(false);
+                }
+            };
+            var scheduled = false;
+            var schedule = function () {
+                if (!scheduled && !finished) {
+                    scheduled = true;
+                    requestAnimationFrame(function () {
+                        scheduled = false;
+                        check();
+                    });
+                }
+            };
+            check();
+            if (!finished) {
+                observer = new MutationObserver(schedule);
+                observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });
+                timer = setInterval(check, 100);
+            }
+            """;
+
 }
@@ -1,32 +1,55 @@
 package base;
 
+import metrics.CommandTimings;
+import metrics.PageLoadTimings;
+import metrics.StepTimings;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.MDC;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.fail;
+
+@ExtendWith(FailureCapture.class)
 public abstract class BaseTest {
 
     protected WebDriver driver;
     protected WebDriverWait wait;
 
-    @BeforeEach
-    void setUp() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
+    private DriverPool pool;
 
-        driver = new ChromeDriver(options);
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        MDC.put("test", getClass().getSimpleName() + "." + testInfo.getTestMethod().map(Method::getName).orElse("?"));
+        BrowserProfile profile = BrowserProfile.forTestClass(getClass());
+        pool = DriverPool.forProfile(profile);
+        driver = CommandTimings.instrument(pool.acquire());
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        StepTimings.beginTest();
     }
 
     @AfterEach
     void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        List<String> stepViolations = StepTimings.endTest();
+        try {
+            if (driver != null) {
+                PageLoadTimings.collectPending(driver);
+                pool.release(DriverSupport.unwrap(driver));
+                driver = null;
+            }
+        } finally {
+            MDC.remove("test");
+        }
+
+        if (!stepViolations.isEmpty() && StepTimings.failOnViolation()) {
+            fail("Step latency violations:\n  " + String.join("\n  ", stepViolations));
         }
     }
 }
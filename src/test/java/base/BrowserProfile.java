@@ -0,0 +1,119 @@
+package base;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public enum BrowserProfile {
+
+    // Matches the original setup: a maximized, fully featured Chrome.
+    FULL("full", false, true, true, true, true, true, null),
+    LEAN("lean", false, false, false, false, true, false, null),
+    HEADLESS_CI("headless-ci", true, false, false, false, false, false, "1920,1080");
+
+    private static final BrowserProfile DEFAULT = fromId(TestConfig.stringProperty("browser.profile", FULL.id));
+    private static final boolean FORCE_DEFAULT = TestConfig.booleanProperty("browser.profile.force", false);
+
+    private final String id;
+    private final boolean headless;
+    private final boolean images;
+    private final boolean fonts;
+    private final boolean extensions;
+    private final boolean gpu;
+    private final boolean backgroundNetworking;
+    private final String windowSize;
+
+    BrowserProfile(
+            String id,
+            boolean headless,
+            boolean images,
+            boolean fonts,
+            boolean extensions,
+            boolean gpu,
+            boolean backgroundNetworking,
+            String windowSize
+    ) {
+        this.id = id;
+        this.headless = headless;
+        this.images = images;
+        this.fonts = fonts;
+        this.extensions = extensions;
+        this.gpu = gpu;
+        this.backgroundNetworking = backgroundNetworking;
+        this.windowSize = windowSize;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public static BrowserProfile defaultProfile() {
+        return DEFAULT;
+    }
+
+    public static BrowserProfile fromId(String id) {
+        for (BrowserProfile profile : values()) {
+            if (profile.id.equalsIgnoreCase(id.trim()) || profile.name().equalsIgnoreCase(id.trim())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown browser profile '" + id + "' (expected full, lean or headless-ci)");
+    }
+
+    public static BrowserProfile forTestClass(Class<?> testClass) {
+        if (FORCE_DEFAULT || testClass == null) {
+            return DEFAULT;
+        }
+        UseBrowserProfile annotation = testClass.getAnnotation(UseBrowserProfile.class);
+        return annotation == null ? DEFAULT : annotation.value();
+    }
+
+    public void applyTo(ChromeOptions options) {
+        if (headless) {
+            options.addArguments("--headless=new", "--disable-dev-shm-usage");
+        }
+        if (windowSize == null) {
+            options.addArguments("--start-maximized");
+        } else {
+            options.addArguments("--window-size=" + windowSize);
+        }
+        if (!images) {
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
+        if (!fonts) {
+            options.addArguments("--disable-remote-fonts");
+        }
+        if (!extensions) {
+            options.addArguments("--disable-extensions", "--disable-component-extensions-with-background-pages");
+        }
+        if (!gpu) {
+            options.addArguments("--disable-gpu");
+        }
+        if (!backgroundNetworking) {
+            options.addArguments(
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-default-apps",
+                    "--disable-sync"
+            );
+        }
+    }
+
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("headless", headless);
+        settings.put("images", images);
+        settings.put("fonts", fonts);
+        settings.put("extensions", extensions);
+        settings.put("gpu", gpu);
+        settings.put("backgroundNetworking", backgroundNetworking);
+        settings.put("windowSize", windowSize == null ? "maximized" : windowSize);
+        return settings;
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -0,0 +1,245 @@
+package base;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// Consent cookies and localStorage captured once per origin, replayed into fresh sessions before their first navigation.
+public final class ConsentSeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsentSeed.class);
+
+    private static final boolean ENABLED = TestConfig.booleanProperty("consent.seed", true);
+    private static final Pattern COOKIE_NAMES = Pattern.compile(
+            TestConfig.stringProperty("consent.cookies", "viewed_cookie_policy|cookielawinfo.*|CookieLawInfoConsent"));
+    private static final Pattern STORAGE_KEYS = Pattern.compile(
+            TestConfig.stringProperty("consent.storageKeys", "(?i).*(consent|cookie).*"));
+    private static final Path SEED_FILE = Path.of(TestConfig.stringProperty("consent.seedFile", "target/consent-seed.json"));
+
+    private static final Json JSON = new Json();
+    private static final Map<String, Seed> SEEDS = new ConcurrentHashMap<>(load());
+    private static final Map<WebDriver, Applied> APPLIED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public record Seed(List<Map<String, Object>> cookies, Map<String, String> storage) {
+    }
+
+    private static final class Applied {
+        private String scriptId;
+        private boolean cookies;
+    }
+
+    private ConsentSeed() {
+    }
+
+    public static boolean covers(String origin) {
+        return origin != null && SEEDS.containsKey(origin);
+    }
+
+    // Returns true when consent state was replayed into this session (and the banner waits can be skipped).
+    public static boolean seed(WebDriver driver) {
+        if (!ENABLED || SEEDS.isEmpty()) {
+            return false;
+        }
+        WebDriver raw = DriverSupport.unwrap(driver);
+        if (!(raw instanceof HasCdp cdp)) {
+            return false;
+        }
+        Applied applied = APPLIED.computeIfAbsent(raw, d -> new Applied());
+        if (applied.cookies) {
+            return true;
+        }
+
+        try {
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            Map<String, Map<String, String>> storage = new LinkedHashMap<>();
+            SEEDS.forEach((origin, seed) -> {
+                cookies.addAll(seed.cookies());
+                if (!seed.storage().isEmpty()) {
+                    storage.put(origin, seed.storage());
+                }
+            });
+
+            cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cookies));
+            if (applied.scriptId == null && !storage.isEmpty()) {
+                Map<String, Object> result = cdp.executeCdpCommand(
+                        "Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", String.format(SEED_STORAGE_SCRIPT, JSON.toJson(storage)))
+                );
+                applied.scriptId = String.valueOf(result.get("identifier"));
+            }
+            applied.cookies = true;
+        } catch (RuntimeException e) {
+            logger.warn("Consent seeding rejected; falling back to cookie banner guards.", e);
+            return false;
+        }
+
+        OverlayGuard guard = OverlayGuard.of(raw);
+        SEEDS.keySet().forEach(guard::rememberConsent);
+        logger.info("Consent seeded for {}", SEEDS.keySet());
+        return true;
+    }
+
+    // Pooled sessions lose their cookies on reset; the storage script stays registered on the page target.
+    static void forget(WebDriver driver) {
+        Applied applied = APPLIED.get(DriverSupport.unwrap(driver));
+        if (applied != null) {
+            applied.cookies = false;
+        }
+    }
+
+    // A new browser context starts without cookies or the storage script.
+    static void discard(WebDriver driver) {
+        APPLIED.remove(DriverSupport.unwrap(driver));
+    }
+
+    public static void capture(WebDriver driver) {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            URI uri = URI.create(driver.getCurrentUrl());
+            String origin = uri.getScheme() + "://" + uri.getAuthority();
+
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            for (Cookie cookie : driver.manage().getCookies()) {
+                if (COOKIE_NAMES.matcher(cookie.getName()).matches()) {
+                    cookies.add(cookieParam(origin, cookie));
+                }
+            }
+
+            Map<String, String> storage = new LinkedHashMap<>();
+            Object raw = ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+            if (raw instanceof Map<?, ?> map) {
+                map.forEach((key, value) -> {
+                    if (STORAGE_KEYS.matcher(String.valueOf(key)).matches()) {
+                        storage.put(String.valueOf(key), String.valueOf(value));
+                    }
+                });
+            }
+
+            if (cookies.isEmpty() && storage.isEmpty()) {
+                logger.info("No consent state found to capture for {}", origin);
+                return;
+            }
+            SEEDS.put(origin, new Seed(cookies, storage));
+            logger.info("Consent captured for {} (cookies={}, storageKeys={})", origin, cookies.size(), storage.keySet());
+            save();
+        } catch (RuntimeException e) {
+            logger.warn("Consent capture failed (non-fatal).", e);
+        }
+    }
+
+    public static void invalidate(String origin) {
+        if (origin != null && SEEDS.remove(origin) != null) {
+            logger.warn("Cookie banner shown despite seeded consent for {}; dropping the seed.", origin);
+            save();
+        }
+    }
+
+    private static Map<String, Object> cookieParam(String origin, Cookie cookie) {
+        Map<String, Object> param = new LinkedHashMap<>();
+        param.put("name", cookie.getName());
+        param.put("value", cookie.getValue());
+        param.put("url", origin + "/");
+        param.put("path", cookie.getPath() == null ? "/" : cookie.getPath());
+        if (cookie.getDomain() != null && cookie.getDomain().startsWith(".")) {
+            param.put("domain", cookie.getDomain());
+        }
+        param.put("secure", cookie.isSecure());
+        param.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getSameSite() != null) {
+            param.put("sameSite", cookie.getSameSite());
+        }
+        if (cookie.getExpiry() != null) {
+            param.put("expires", cookie.getExpiry().getTime() / 1000);
+        }
+        return param;
+    }
+
+    private static Map<String, Seed> load() {
+        if (!ENABLED || !Files.isRegularFile(SEED_FILE)) {
+            return Map.of();
+        }
+        try {
+            Map<String, Object> raw = JSON.toType(Files.readString(SEED_FILE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            Map<String, Seed> seeds = new LinkedHashMap<>();
+            raw.forEach((origin, value) -> {
+                Map<?, ?> entry = (Map<?, ?>) value;
+                List<Map<String, Object>> cookies = new ArrayList<>();
+                for (Object cookie : (List<?>) entry.get("cookies")) {
+                    Map<String, Object> param = new LinkedHashMap<>();
+                    ((Map<?, ?>) cookie).forEach((k, v) -> param.put(String.valueOf(k), v));
+                    cookies.add(param);
+                }
+                Map<String, String> storage = new LinkedHashMap<>();
+                ((Map<?, ?>) entry.get("storage")).forEach((k, v) -> storage.put(String.valueOf(k), String.valueOf(v)));
+                seeds.put(origin, new Seed(cookies, storage));
+            });
+            logger.info("Loaded consent seeds for {} from {}", seeds.keySet(), SEED_FILE);
+            return seeds;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read consent seeds from {} (ignored).", SEED_FILE, e);
+            return Map.of();
+        }
+    }
+
+    private static synchronized void save() {
+        try {
+            if (SEED_FILE.getParent() != null) {
+                Files.createDirectories(SEED_FILE.getParent());
+            }
+            Map<String, Object> out = new LinkedHashMap<>();
+            SEEDS.forEach((origin, seed) -> out.put(origin, Map.of("cookies", seed.cookies(), "storage", seed.storage())));
+            Files.writeString(SEED_FILE, JSON.toJson(out), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Could not write consent seeds to {} (non-fatal).", SEED_FILE, e);
+        }
+    }
+
+    private static final String READ_STORAGE_SCRIPT = """
+            var result = {};
+            try {
+                for (var i = 0; i < window.localStorage.length; i++) {
+                    var key = window.localStorage.key(i);
+                    result[key] = window.localStorage.getItem(key);
+                }
+            } catch (e) {
+            }
+            return result;
+            """;
+
+    private static final String SEED_STORAGE_SCRIPT = """
+            (function (seeds) {
+                var seed = seeds[window.location.origin];
+                if (!seed) {
+                    return;
+                }
+                try {
+                    for (var key in seed) {
+                        if (window.localStorage.getItem(key) === null) {
+                            window.localStorage.setItem(key, seed[key]);
+                        }
+                    }
+                } catch (e) {
+                }
+            })(%s);
+            """;
+}
@@ -0,0 +1,76 @@
+package base;
+
+import metrics.BrowserProfileTimings;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+public final class DriverFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
+
+    private static final PageLoadStrategy PAGE_LOAD_STRATEGY = parsePageLoadStrategy();
+    private static final boolean BIDI = TestConfig.booleanProperty("driver.bidi", true);
+    private static final Map<WebDriver, BrowserProfile> PROFILES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DriverFactory() {
+    }
+
+    public static PageLoadStrategy pageLoadStrategy() {
+        return PAGE_LOAD_STRATEGY;
+    }
+
+    public static WebDriver createChromeDriver() {
+        return createChromeDriver(BrowserProfile.defaultProfile());
+    }
+
+    public static WebDriver createChromeDriver(BrowserProfile profile) {
+        ChromeOptions options = new ChromeOptions();
+        profile.applyTo(options);
+        options.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+        if (FailureCapture.enabled()) {
+            // Browser console entries for failure artifacts.
+            LoggingPreferences logging = new LoggingPreferences();
+            logging.enable(LogType.BROWSER, Level.ALL);
+            options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+        }
+        if (BIDI) {
+            // WebDriver BiDi alongside classic/CDP, for browsing context events (NewTabWatcher).
+            options.setCapability("webSocketUrl", true);
+        }
+
+        long startNanos = System.nanoTime();
+        WebDriver driver = new ChromeDriver(options);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        PROFILES.put(driver, profile);
+        BrowserProfileTimings.recordStartup(profile.id(), profile.settings(), elapsedNanos);
+        logger.info("Chrome started (profile={}, startupMs={})", profile, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return driver;
+    }
+
+    public static BrowserProfile profileOf(WebDriver driver) {
+        BrowserProfile profile = PROFILES.get(DriverSupport.unwrap(driver));
+        return profile == null ? BrowserProfile.defaultProfile() : profile;
+    }
+
+    private static PageLoadStrategy parsePageLoadStrategy() {
+        String value = TestConfig.stringProperty("page.load.strategy", "normal");
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.toLowerCase());
+        if (strategy == null) {
+            throw new IllegalArgumentException("System property 'page.load.strategy' must be normal, eager or none: '" + value + "'");
+        }
+        return strategy;
+    }
+}
@@ -0,0 +1,493 @@
+package base;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class DriverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private static final int POOL_SIZE =
+            TestConfig.intProperty("driver.pool.size", TestConfig.intProperty("test.parallelism", 1));
+    private static final int POOL_MAX_USES = TestConfig.intProperty("driver.pool.maxUses", 50);
+    private static final boolean PREWARM = TestConfig.booleanProperty("driver.prewarm", true);
+    private static final int PREWARM_AHEAD =
+            TestConfig.intProperty("driver.prewarm.ahead", TestConfig.intProperty("test.parallelism", 1));
+
+    // Sessions started with different Chrome flags are not interchangeable, so each profile gets its own pool.
+    private static final Map<BrowserProfile, DriverPool> BY_PROFILE = new ConcurrentHashMap<>();
+
+    public record Stats(
+            long acquires,
+            long hits,
+            long misses,
+            long evictions,
+            double hitRate,
+            double avgAcquireMillis,
+            double maxAcquireMillis,
+            long prewarmed,
+            double startupHiddenMillis,
+            double startupPaidMillis
+    ) {
+    }
+
+    private record StartedDriver(WebDriver driver, long startupNanos) {
+    }
+
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private final String homeHandle;
+        private int uses;
+        private UserContexts.Lease context;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+            this.homeHandle = driver.getWindowHandle();
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final int maxUses;
+    private final Supplier<WebDriver> factory;
+    private final int prewarmTarget;
+    private final Semaphore permits;
+    private final Deque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private final Deque<CompletableFuture<StartedDriver>> warming = new ConcurrentLinkedDeque<>();
+    private final ExecutorService warmer = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("driver-prewarm-", 0).factory());
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder acquireNanosTotal = new LongAdder();
+    private final AtomicLong acquireNanosMax = new AtomicLong();
+    private final LongAdder prewarmed = new LongAdder();
+    private final LongAdder startupHiddenNanos = new LongAdder();
+    private final LongAdder startupPaidNanos = new LongAdder();
+
+    private DriverPool(String name, int maxSize, int maxUses, Supplier<WebDriver> factory, int prewarmTarget) {
+        this.name = name;
+        this.maxSize = Math.max(0, maxSize);
+        this.maxUses = Math.max(1, maxUses);
+        this.factory = factory;
+        this.prewarmTarget = Math.max(0, prewarmTarget);
+        this.permits = new Semaphore(Math.max(1, this.maxSize), true);
+    }
+
+    public static DriverPool forProfile(BrowserProfile profile) {
+        return BY_PROFILE.computeIfAbsent(profile, p -> {
+            DriverPool pool = new DriverPool(
+                    p.id(),
+                    POOL_SIZE,
+                    POOL_MAX_USES,
+                    () -> DriverFactory.createChromeDriver(p),
+                    prewarmTarget()
+            );
+            Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "driver-pool-shutdown-" + p.id()));
+            return pool;
+        });
+    }
+
+    // Pooled: keep the pool filled. Unpooled: keep the next session(s) starting while the current test runs.
+    private static int prewarmTarget() {
+        if (!PREWARM) {
+            return 0;
+        }
+        return POOL_SIZE > 0 ? POOL_SIZE : PREWARM_AHEAD;
+    }
+
+    public static void shutdownAll() {
+        for (BrowserProfile profile : BY_PROFILE.keySet()) {
+            DriverPool pool = BY_PROFILE.remove(profile);
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Starts sessions in the background until the pool (or the unpooled look-ahead) is full.
+    public void prewarm() {
+        if (closed.get()) {
+            return;
+        }
+        int room = prewarmTarget - warming.size() - (isPooling() ? idle.size() + leased.size() : 0);
+        for (int i = 0; i < room; i++) {
+            startWarming();
+        }
+    }
+
+    public WebDriver acquire() {
+        if (closed.get()) {
+            throw new IllegalStateException("Driver pool is shut down.");
+        }
+
+        long startNanos = System.nanoTime();
+        if (!isPooling()) {
+            WebDriver driver = takeStartedDriver();
+            prewarm();
+            recordAcquire(startNanos, false);
+            return driver;
+        }
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled driver.", e);
+        }
+
+        try {
+            PooledSession session;
+            boolean hit = false;
+            while ((session = idle.pollFirst()) != null) {
+                if (isHealthy(session)) {
+                    hit = true;
+                    break;
+                }
+                evict(session, "failed health check");
+            }
+            if (session == null) {
+                session = new PooledSession(takeStartedDriver());
+            }
+
+            if (UserContexts.isolation() == UserContexts.Isolation.CONTEXT) {
+                session.context = UserContexts.open(session.driver);
+                if (session.context == null) {
+                    logger.warn("Browser contexts unsupported (pool={}); this test gets its own browser process.", name);
+                }
+            }
+
+            session.uses++;
+            if (session.uses >= maxUses && prewarmTarget > 0) {
+                // This lease retires the session; start its replacement while the test runs.
+                startWarming();
+            }
+            leased.put(session.driver, session);
+            recordAcquire(startNanos, hit);
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (!isPooling()) {
+            quitQuietly(driver);
+            return;
+        }
+
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            logger.warn("Released driver was not leased from the pool; quitting it.");
+            quitQuietly(driver);
+            return;
+        }
+
+        try {
+            if (closed.get()) {
+                evict(session, "pool shut down");
+            } else if (session.uses >= maxUses) {
+                evict(session, "reached maxUses=" + maxUses);
+            } else if (UserContexts.isolation() == UserContexts.Isolation.CONTEXT) {
+                releaseContext(session);
+            } else if (reset(session)) {
+                idle.offerFirst(session);
+            } else {
+                evict(session, "reset failed");
+                prewarm();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public Stats stats() {
+        long acquireCount = acquires.sum();
+        long hitCount = hits.sum();
+        return new Stats(
+                acquireCount,
+                hitCount,
+                misses.sum(),
+                evictions.sum(),
+                acquireCount == 0 ? 0.0 : (double) hitCount / acquireCount,
+                acquireCount == 0 ? 0.0 : acquireNanosTotal.sum() / 1_000_000.0 / acquireCount,
+                acquireNanosMax.get() / 1_000_000.0,
+                prewarmed.sum(),
+                startupHiddenNanos.sum() / 1_000_000.0,
+                startupPaidNanos.sum() / 1_000_000.0
+        );
+    }
+
+    public void shutdown() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        CompletableFuture<StartedDriver> pending;
+        while ((pending = warming.pollFirst()) != null) {
+            try {
+                quitQuietly(pending.get(60, TimeUnit.SECONDS).driver());
+            } catch (Exception e) {
+                logger.debug("Pre-warmed session did not start; nothing to quit.", e);
+            }
+        }
+        warmer.shutdown();
+
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            quitQuietly(session.driver);
+        }
+        for (PooledSession leasedSession : leased.values()) {
+            quitQuietly(leasedSession.driver);
+        }
+        leased.clear();
+
+        Stats stats = stats();
+        logger.info(
+                "Driver pool stats ({}): size={}, acquires={}, hits={}, misses={}, hitRate={}, evictions={}, acquireAvgMs={}, acquireMaxMs={}",
+                name,
+                maxSize,
+                stats.acquires(),
+                stats.hits(),
+                stats.misses(),
+                String.format("%.2f", stats.hitRate()),
+                stats.evictions(),
+                String.format("%.1f", stats.avgAcquireMillis()),
+                String.format("%.1f", stats.maxAcquireMillis())
+        );
+        logger.info(
+                "Driver startup ({}): prewarmed={}, hiddenMs={}, paidMs={}",
+                name,
+                stats.prewarmed(),
+                String.format("%.0f", stats.startupHiddenMillis()),
+                String.format("%.0f", stats.startupPaidMillis())
+        );
+    }
+
+    private void startWarming() {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            warming.offerLast(CompletableFuture.supplyAsync(() -> {
+                long startNanos = System.nanoTime();
+                WebDriver driver = factory.get();
+                return new StartedDriver(driver, System.nanoTime() - startNanos);
+            }, warmer));
+            prewarmed.increment();
+        } catch (RejectedExecutionException e) {
+            logger.debug("Driver pool is shutting down; not pre-warming.", e);
+        }
+    }
+
+    // Prefers a session started in the background; only the part of its startup we still wait for is paid.
+    private WebDriver takeStartedDriver() {
+        CompletableFuture<StartedDriver> pending = warming.pollFirst();
+        if (pending != null) {
+            long waitStartNanos = System.nanoTime();
+            try {
+                StartedDriver started = pending.join();
+                long waitedNanos = System.nanoTime() - waitStartNanos;
+                startupPaidNanos.add(waitedNanos);
+                startupHiddenNanos.add(Math.max(0, started.startupNanos() - waitedNanos));
+                return started.driver();
+            } catch (CompletionException | CancellationException e) {
+                logger.warn("Pre-warmed driver failed to start; starting one synchronously.", e);
+            }
+        }
+
+        long startNanos = System.nanoTime();
+        WebDriver driver = factory.get();
+        startupPaidNanos.add(System.nanoTime() - startNanos);
+        return driver;
+    }
+
+    private boolean isPooling() {
+        return maxSize > 0;
+    }
+
+    private void recordAcquire(long startNanos, boolean hit) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        acquires.increment();
+        (hit ? hits : misses).increment();
+        acquireNanosTotal.add(elapsedNanos);
+        acquireNanosMax.accumulateAndGet(elapsedNanos, Math::max);
+        logger.info("Driver acquired (pool={}, pooled={}, hit={}, latencyMs={})",
+                name, isPooling(), hit, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            Object state = ((JavascriptExecutor) session.driver).executeScript("return document.readyState");
+            return state != null;
+        } catch (RuntimeException e) {
+            logger.debug("Pooled session health check failed.", e);
+            return false;
+        }
+    }
+
+    // Context isolation: the browser stays, the test's context goes. Without a context, fall back to a process per test.
+    private void releaseContext(PooledSession session) {
+        UserContexts.Lease context = session.context;
+        session.context = null;
+        if (context == null) {
+            evict(session, "no browser context");
+            prewarm();
+        } else if (UserContexts.close(session.driver, context, session.homeHandle)) {
+            idle.offerFirst(session);
+        } else {
+            evict(session, "context close failed");
+            prewarm();
+        }
+    }
+
+    private boolean reset(PooledSession session) {
+        WebDriver driver = session.driver;
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            Set<String> origins = new TreeSet<>();
+            for (String handle : handles) {
+                driver.switchTo().window(handle);
+                origins.addAll(visitedOrigins(driver));
+                clearStorage(driver);
+                if (!handle.equals(session.homeHandle)) {
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(session.homeHandle);
+            clearOriginData(driver, origins);
+            clearCookies(driver);
+            OverlayGuard.forget(driver);
+            ConsentSeed.forget(driver);
+            driver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Pooled session reset failed.", e);
+            return false;
+        }
+    }
+
+    private static void clearStorage(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); } catch (e) {}"
+                            + " try { window.sessionStorage.clear(); } catch (e) {}");
+        } catch (JavascriptException ignored) {
+            // best-effort (e.g. about:blank or opaque origins)
+        }
+    }
+
+    // Origins of every history entry in the current tab, not just the page it shows now.
+    private static Set<String> visitedOrigins(WebDriver driver) {
+        Set<String> origins = new TreeSet<>();
+        if (driver instanceof HasCdp cdp) {
+            try {
+                Object entries = cdp.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries");
+                if (entries instanceof List<?> list) {
+                    for (Object entry : list) {
+                        if (entry instanceof Map<?, ?> map && map.get("url") != null) {
+                            addOrigin(origins, String.valueOf(map.get("url")));
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.debug("Could not read navigation history; clearing the current origin only.", e);
+            }
+        }
+        try {
+            addOrigin(origins, driver.getCurrentUrl());
+        } catch (RuntimeException e) {
+            logger.debug("Could not read the current URL during reset.", e);
+        }
+        return origins;
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = new URI(url);
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort()));
+            }
+        } catch (URISyntaxException ignored) {
+            // not a web origin worth clearing
+        }
+    }
+
+    // localStorage, IndexedDB, Cache Storage and service workers of each origin; sessionStorage is per tab and
+    // is only cleared for the page each tab shows.
+    private static void clearOriginData(WebDriver driver, Set<String> origins) {
+        if (!(driver instanceof HasCdp cdp)) {
+            return;
+        }
+        for (String origin : origins) {
+            try {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            } catch (RuntimeException e) {
+                logger.debug("Could not clear storage for {} (ignored).", origin, e);
+            }
+        }
+    }
+
+    private static void clearCookies(WebDriver driver) {
+        if (driver instanceof HasCdp cdp) {
+            try {
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                return;
+            } catch (RuntimeException e) {
+                logger.debug("CDP cookie clear failed; falling back to deleteAllCookies.", e);
+            }
+        }
+        driver.manage().deleteAllCookies();
+    }
+
+    private void evict(PooledSession session, String reason) {
+        evictions.increment();
+        logger.info("Evicting pooled driver session ({}; uses={}).", reason, session.uses);
+        quitQuietly(session.driver);
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        // Both hold listeners that reference the driver, which keeps their weak-map keys reachable.
+        NewTabWatcher.forget(driver);
+        NetworkPolicyInterceptor.detach(driver);
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            logger.debug("driver.quit() failed (ignored).", e);
+        }
+    }
+}
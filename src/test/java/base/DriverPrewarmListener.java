@@ -0,0 +1,64 @@
+package base;
+
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+// Starts browser sessions for the profiles the plan needs before the first setUp() asks for one.
+public class DriverPrewarmListener implements LauncherSessionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPrewarmListener.class);
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (!TestConfig.booleanProperty("driver.prewarm", true)) {
+            return;
+        }
+        session.getLauncher().registerTestExecutionListeners(new TestExecutionListener() {
+            @Override
+            public void testPlanExecutionStarted(TestPlan testPlan) {
+                Set<BrowserProfile> profiles = browserProfiles(testPlan);
+                if (!profiles.isEmpty()) {
+                    logger.info("Pre-warming browser sessions for profiles {}", profiles);
+                    profiles.forEach(profile -> DriverPool.forProfile(profile).prewarm());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        DriverPool.shutdownAll();
+    }
+
+    private static Set<BrowserProfile> browserProfiles(TestPlan testPlan) {
+        Set<BrowserProfile> profiles = EnumSet.noneOf(BrowserProfile.class);
+        for (TestIdentifier root : testPlan.getRoots()) {
+            for (TestIdentifier identifier : testPlan.getDescendants(root)) {
+                identifier.getSource()
+                        .filter(ClassSource.class::isInstance)
+                        .map(source -> loadQuietly((ClassSource) source))
+                        .filter(BaseTest.class::isAssignableFrom)
+                        .ifPresent(testClass -> profiles.add(BrowserProfile.forTestClass(testClass)));
+            }
+        }
+        return profiles;
+    }
+
+    private static Class<?> loadQuietly(ClassSource source) {
+        try {
+            return source.getJavaClass();
+        } catch (RuntimeException e) {
+            logger.debug("Could not load test class {} (ignored).", source.getClassName(), e);
+            return Object.class;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+public final class DriverSupport {
+
+    private DriverSupport() {
+    }
+
+    public static WebDriver unwrap(WebDriver driver) {
+        WebDriver current = driver;
+        while (current instanceof WrapsDriver wrapper) {
+            current = wrapper.getWrappedDriver();
+        }
+        return current;
+    }
+}
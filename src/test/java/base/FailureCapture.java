@@ -0,0 +1,223 @@
+package base;
+
+import metrics.LatencyHistogram;
+import metrics.PerfReports;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// Grabs screenshot, page source, console log and URL when a test throws (before @AfterEach releases the driver);
+// decoding, compression and disk writes run on a bounded background executor that is drained when the test plan finishes.
+public final class FailureCapture implements TestExecutionExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureCapture.class);
+
+    private static final boolean ENABLED = TestConfig.booleanProperty("failure.capture", true);
+    private static final Path DIR = Path.of(TestConfig.stringProperty("failure.capture.dir", "target/failures"));
+    private static final int QUEUE_CAPACITY = TestConfig.intProperty("failure.capture.queue", 16);
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneId.systemDefault());
+
+    // Full queue: the failing test thread writes its own artifacts rather than dropping them.
+    private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(
+            1,
+            Math.max(1, TestConfig.intProperty("failure.capture.threads", 2)),
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, QUEUE_CAPACITY)),
+            Thread.ofPlatform().name("failure-capture-", 0).daemon().factory(),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
+    private static final LatencyHistogram CAPTURE_LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram WRITE_LATENCY = new LatencyHistogram();
+    private static final Map<String, LongAdder> BYTES = new ConcurrentHashMap<>();
+    private static final LongAdder WRITTEN_ON_CALLER = new LongAdder();
+    private static final Queue<Future<?>> PENDING = new ConcurrentLinkedQueue<>();
+
+    static {
+        PerfReports.onTestPlanFinished(FailureCapture::flush);
+    }
+
+    private record Snapshot(
+            String test,
+            Instant at,
+            String url,
+            String screenshotBase64,
+            String pageSource,
+            List<LogEntry> console,
+            Throwable failure
+    ) {
+    }
+
+    public static boolean enabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        if (ENABLED && context.getTestInstance().orElse(null) instanceof BaseTest test && test.driver != null) {
+            capture(test.driver, testName(context), throwable);
+        }
+        throw throwable;
+    }
+
+    // Only browser round trips happen on the test thread; everything else is queued.
+    private static void capture(WebDriver driver, String test, Throwable failure) {
+        long startNanos = System.nanoTime();
+        Snapshot snapshot = new Snapshot(
+                test,
+                Instant.now(),
+                safely("url", driver::getCurrentUrl),
+                safely("screenshot", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64)),
+                safely("page source", driver::getPageSource),
+                safely("console log", () -> driver.manage().logs().get(LogType.BROWSER).getAll()),
+                failure
+        );
+        long captureNanos = System.nanoTime() - startNanos;
+        CAPTURE_LATENCY.recordNanos(captureNanos);
+        logger.info("Failure captured for {} in {}ms; writing in background.", test, TimeUnit.NANOSECONDS.toMillis(captureNanos));
+
+        Thread caller = Thread.currentThread();
+        PENDING.add(WRITER.submit(() -> {
+            if (Thread.currentThread() == caller) {
+                WRITTEN_ON_CALLER.increment();
+            }
+            write(snapshot);
+        }));
+    }
+
+    private static void write(Snapshot snapshot) {
+        long startNanos = System.nanoTime();
+        Path dir = DIR.resolve(snapshot.test().replaceAll("[^A-Za-z0-9._-]", "_") + "-" + STAMP.format(snapshot.at()));
+        try {
+            Files.createDirectories(dir);
+            if (snapshot.screenshotBase64() != null) {
+                record("screenshot", Files.write(dir.resolve("screenshot.png"), Base64.getDecoder().decode(snapshot.screenshotBase64())));
+            }
+            if (snapshot.pageSource() != null) {
+                Path source = dir.resolve("page-source.html.gz");
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(source))) {
+                    out.write(snapshot.pageSource().getBytes(StandardCharsets.UTF_8));
+                }
+                record("pageSource", source);
+            }
+            if (snapshot.console() != null) {
+                StringBuilder console = new StringBuilder();
+                for (LogEntry entry : snapshot.console()) {
+                    console.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                            .append(entry.getLevel()).append(' ')
+                            .append(entry.getMessage()).append('\n');
+                }
+                record("console", Files.writeString(dir.resolve("console.log"), console, StandardCharsets.UTF_8));
+            }
+            StringWriter trace = new StringWriter();
+            snapshot.failure().printStackTrace(new PrintWriter(trace));
+            record("failure", Files.writeString(
+                    dir.resolve("failure.txt"),
+                    "test: " + snapshot.test() + "\nurl: " + snapshot.url() + "\nat: " + snapshot.at() + "\n\n" + trace,
+                    StandardCharsets.UTF_8
+            ));
+            long writeNanos = System.nanoTime() - startNanos;
+            WRITE_LATENCY.recordNanos(writeNanos);
+            logger.info("Failure artifacts written: {} ({}ms)", dir.toAbsolutePath(), TimeUnit.NANOSECONDS.toMillis(writeNanos));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not write failure artifacts to {} (non-fatal).", dir, e);
+        }
+    }
+
+    private static void record(String artifact, Path file) throws IOException {
+        BYTES.computeIfAbsent(artifact, a -> new LongAdder()).add(Files.size(file));
+    }
+
+    private static <T> T safely(String what, Supplier<T> read) {
+        try {
+            return read.get();
+        } catch (RuntimeException e) {
+            logger.debug("Could not capture {} for failure artifacts.", what, e);
+            return null;
+        }
+    }
+
+    private static String testName(ExtensionContext context) {
+        String method = context.getTestMethod().map(Method::getName).orElse("?");
+        String display = context.getDisplayName();
+        return context.getRequiredTestClass().getSimpleName() + "." + method
+                + (display.startsWith(method) ? "" : "[" + display + "]");
+    }
+
+    // Waits for queued writes but keeps the executor, so a later test plan in the same JVM can still capture.
+    private static void flush() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        Future<?> pending;
+        while ((pending = PENDING.poll()) != null) {
+            try {
+                pending.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                logger.warn("Failure artifact writes still pending after 30s; {} queued.", PENDING.size() + 1);
+                break;
+            } catch (ExecutionException e) {
+                logger.warn("Failure artifact write failed (non-fatal).", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (CAPTURE_LATENCY.count() == 0) {
+            return;
+        }
+
+        Map<String, Object> bytes = new TreeMap<>();
+        BYTES.forEach((artifact, total) -> bytes.put(artifact, total.sum()));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("failures", CAPTURE_LATENCY.count());
+        report.put("captureOnTestThread", CAPTURE_LATENCY.toMap());
+        report.put("backgroundWrite", WRITE_LATENCY.toMap());
+        report.put("writtenOnTestThread", WRITTEN_ON_CALLER.sum());
+        report.put("artifactBytes", bytes);
+        report.put("dir", DIR.toAbsolutePath().toString());
+        logger.info(
+                "Failure capture: failures={}, captureP50Ms={}, writeP50Ms={}, bytes={}",
+                CAPTURE_LATENCY.count(),
+                CAPTURE_LATENCY.percentileMillis(50),
+                WRITE_LATENCY.percentileMillis(50),
+                bytes
+        );
+        PerfReports.writeJson("failure-capture.json", report);
+    }
+}
@@ -0,0 +1,85 @@
+package base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public record NetworkPolicy(List<Pattern> deny, List<Pattern> allow) {
+
+    private static final String DEFAULT_DENY = String.join(",",
+            "googletagmanager\\.com",
+            "google-analytics\\.com",
+            "doubleclick\\.net",
+            "connect\\.facebook\\.net",
+            "facebook\\.com/tr",
+            "snap\\.licdn\\.com",
+            "px\\.ads\\.linkedin\\.com",
+            "static\\.hotjar\\.com",
+            "clarity\\.ms",
+            "js\\.hs-scripts\\.com|js\\.hsforms\\.net|js\\.hs-analytics\\.net",
+            "widget\\.intercom\\.io|js\\.driftt\\.com",
+            "useinsider\\.com/ins\\.js",
+            "youtube\\.com/embed|player\\.vimeo\\.com",
+            "fonts\\.googleapis\\.com|fonts\\.gstatic\\.com",
+            "\\.(woff2?|ttf|otf)(\\?|$)",
+            "\\.(mp4|webm)(\\?|$)"
+    );
+
+    public NetworkPolicy {
+        deny = List.copyOf(deny);
+        allow = List.copyOf(allow);
+    }
+
+    public static NetworkPolicy defaults() {
+        return new NetworkPolicy(
+                compile(TestConfig.stringProperty("network.deny", DEFAULT_DENY)),
+                compile(TestConfig.stringProperty("network.allow", ""))
+        );
+    }
+
+    public static NetworkPolicy allowAll() {
+        return new NetworkPolicy(List.of(), List.of());
+    }
+
+    public NetworkPolicy withDeny(String... patterns) {
+        return new NetworkPolicy(concat(deny, patterns), allow);
+    }
+
+    public NetworkPolicy withAllow(String... patterns) {
+        return new NetworkPolicy(deny, concat(allow, patterns));
+    }
+
+    public boolean blocks(String url) {
+        if (url == null || url.startsWith("data:")) {
+            return false;
+        }
+        for (Pattern pattern : allow) {
+            if (pattern.matcher(url).find()) {
+                return false;
+            }
+        }
+        for (Pattern pattern : deny) {
+            if (pattern.matcher(url).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Pattern> compile(String commaSeparated) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String part : commaSeparated.split(",")) {
+            if (!part.isBlank()) {
+                patterns.add(Pattern.compile(part.trim()));
+            }
+        }
+        return patterns;
+    }
+
+    private static List<Pattern> concat(List<Pattern> existing, String... patterns) {
+        List<Pattern> merged = new ArrayList<>(existing);
+        Arrays.stream(patterns).map(Pattern::compile).forEach(merged::add);
+        return merged;
+    }
+}
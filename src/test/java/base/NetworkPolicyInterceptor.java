@@ -0,0 +1,206 @@
+package base;
+
+import metrics.PerfReports;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class NetworkPolicyInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkPolicyInterceptor.class);
+
+    private static final boolean ENABLED = TestConfig.booleanProperty("network.policy.enabled", true);
+    private static final boolean MEASURE_SAVED_BYTES = TestConfig.booleanProperty("network.policy.measureSavedBytes", false);
+
+    private static final NetworkPolicyInterceptor UNSUPPORTED = new NetworkPolicyInterceptor();
+    private static final Map<WebDriver, NetworkPolicyInterceptor> BY_DRIVER = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, PageStats> STATS = new ConcurrentHashMap<>();
+
+    private static final ExecutorService SIZE_PROBES = Executors.newVirtualThreadPerTaskExecutor();
+    private static final HttpClient SIZE_PROBE_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    static {
+        PerfReports.onTestPlanFinished(NetworkPolicyInterceptor::logStats);
+    }
+
+    private record Active(String page, NetworkPolicy policy) {
+    }
+
+    private static final class PageStats {
+        private final LongAdder blockedRequests = new LongAdder();
+        private final LongAdder passedRequests = new LongAdder();
+        private final LongAdder savedBytes = new LongAdder();
+        private final LongAdder measuredResponses = new LongAdder();
+    }
+
+    private volatile Active active = new Active("(none)", NetworkPolicy.allowAll());
+    private NetworkInterceptor installed;
+    private String handle;
+
+    private NetworkPolicyInterceptor() {
+    }
+
+    public static void apply(WebDriver driver, String page, NetworkPolicy policy) {
+        if (!ENABLED) {
+            return;
+        }
+        WebDriver target = DriverSupport.unwrap(driver);
+        String handle = currentHandle(target);
+        NetworkPolicyInterceptor existing = BY_DRIVER.get(target);
+        // The DevTools session only sees the tab it was created on, so a page on another tab gets its own interception.
+        if (existing != null && existing != UNSUPPORTED && handle != null && !handle.equals(existing.handle)) {
+            logger.debug("Moving network policy interception to window {} for {}.", handle, page);
+            detach(target);
+        }
+        NetworkPolicyInterceptor interceptor = BY_DRIVER.computeIfAbsent(target, d -> install(d, handle));
+        if (interceptor != UNSUPPORTED) {
+            interceptor.active = new Active(page, policy);
+        }
+    }
+
+    // The DevTools session is attached to one page target; a new browser context or tab needs its own interception.
+    static void detach(WebDriver driver) {
+        WebDriver target = DriverSupport.unwrap(driver);
+        NetworkPolicyInterceptor interceptor = BY_DRIVER.remove(target);
+        if (interceptor == null || interceptor.installed == null) {
+            return;
+        }
+        try {
+            interceptor.installed.close();
+            if (target instanceof HasDevTools devTools) {
+                devTools.getDevTools().disconnectSession();
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Network policy interception detach failed (ignored).", e);
+        }
+    }
+
+    private static String currentHandle(WebDriver driver) {
+        try {
+            return driver.getWindowHandle();
+        } catch (RuntimeException e) {
+            logger.debug("Could not read the current window handle (ignored).", e);
+            return null;
+        }
+    }
+
+    private static NetworkPolicyInterceptor install(WebDriver driver, String handle) {
+        NetworkPolicyInterceptor interceptor = new NetworkPolicyInterceptor();
+        interceptor.handle = handle;
+        Filter filter = next -> request -> {
+            Active current = interceptor.active;
+            PageStats stats = STATS.computeIfAbsent(current.page(), page -> new PageStats());
+            String url = request.getUri();
+            if (current.policy().blocks(url)) {
+                stats.blockedRequests.increment();
+                logger.debug("Blocked by network policy (page={}): {}", current.page(), url);
+                measureSavedBytes(url, stats);
+                return stub(url);
+            }
+            stats.passedRequests.increment();
+            return next.execute(request);
+        };
+
+        try {
+            interceptor.installed = new NetworkInterceptor(driver, filter);
+            logger.info("Network policy interception installed.");
+            return interceptor;
+        } catch (RuntimeException e) {
+            logger.warn("Network policy interception unavailable for this driver; requests are not filtered.", e);
+            return UNSUPPORTED;
+        }
+    }
+
+    private static HttpResponse stub(String url) {
+        HttpResponse response = new HttpResponse();
+        String path = path(url);
+        if (path.endsWith(".js")) {
+            response.setStatus(200);
+            response.setHeader("Content-Type", "application/javascript");
+            response.setContent(Contents.utf8String(""));
+        } else if (path.endsWith(".css")) {
+            response.setStatus(200);
+            response.setHeader("Content-Type", "text/css");
+            response.setContent(Contents.utf8String(""));
+        } else {
+            response.setStatus(204);
+            response.setContent(Contents.empty());
+        }
+        return response;
+    }
+
+    // Runs inside the interception filter, so no URI parsing: tracker URLs with illegal characters must still get a stub.
+    private static String path(String url) {
+        int end = url.length();
+        for (char delimiter : new char[]{'?', '#'}) {
+            int index = url.indexOf(delimiter);
+            if (index >= 0 && index < end) {
+                end = index;
+            }
+        }
+        return url.substring(0, end);
+    }
+
+    private static void measureSavedBytes(String url, PageStats stats) {
+        if (!MEASURE_SAVED_BYTES) {
+            return;
+        }
+        SIZE_PROBES.execute(() -> {
+            try {
+                HttpRequest head = HttpRequest.newBuilder(URI.create(url))
+                        .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                        .timeout(Duration.ofSeconds(5))
+                        .build();
+                long length = SIZE_PROBE_CLIENT.send(head, java.net.http.HttpResponse.BodyHandlers.discarding())
+                        .headers()
+                        .firstValueAsLong("Content-Length")
+                        .orElse(-1);
+                if (length >= 0) {
+                    stats.savedBytes.add(length);
+                    stats.measuredResponses.increment();
+                }
+            } catch (Exception e) {
+                logger.debug("Size probe failed for blocked request: {}", url, e);
+            }
+        });
+    }
+
+    private static void logStats() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, PageStats> entry : new TreeMap<>(STATS).entrySet()) {
+            PageStats stats = entry.getValue();
+            logger.info(
+                    "Network policy stats (page={}): blockedRequests={}, passedRequests={}, savedBytes={}",
+                    entry.getKey(),
+                    stats.blockedRequests.sum(),
+                    stats.passedRequests.sum(),
+                    MEASURE_SAVED_BYTES
+                            ? stats.savedBytes.sum() + " (measured " + stats.measuredResponses.sum() + ")"
+                            : "n/a (-Dnetwork.policy.measureSavedBytes=true)"
+            );
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package base;
+
+import metrics.WaitTimings;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.BrowsingContextInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Detects the window a click opens: BiDi browsingContext.contextCreated when the session has BiDi, window handle polling otherwise.
+public final class NewTabWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewTabWatcher.class);
+
+    private static final Map<WebDriver, Optional<ContextEvents>> EVENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final class ContextEvents {
+        private final BrowsingContextInspector inspector;
+        private final BlockingQueue<String> created = new LinkedBlockingQueue<>();
+
+        private ContextEvents(WebDriver driver) {
+            this.inspector = new BrowsingContextInspector(driver);
+            // Top-level contexts only; their ids are the window handles.
+            inspector.onBrowsingContextCreated(info -> {
+                if (info.getParentBrowsingContext() == null) {
+                    created.offer(info.getId());
+                }
+            });
+        }
+    }
+
+    private final WebDriver driver;
+    private final ContextEvents events;
+    private final Set<String> handlesBefore;
+
+    private NewTabWatcher(WebDriver driver, ContextEvents events, Set<String> handlesBefore) {
+        this.driver = driver;
+        this.events = events;
+        this.handlesBefore = handlesBefore;
+    }
+
+    // Call before the click that opens the window.
+    public static NewTabWatcher arm(WebDriver driver) {
+        ContextEvents events = contextEvents(driver).orElse(null);
+        if (events == null) {
+            return armPolling(driver);
+        }
+        events.created.clear();
+        return new NewTabWatcher(driver, events, null);
+    }
+
+    public static NewTabWatcher armPolling(WebDriver driver) {
+        return new NewTabWatcher(driver, null, new HashSet<>(driver.getWindowHandles()));
+    }
+
+    public boolean eventDriven() {
+        return events != null;
+    }
+
+    public String awaitNewTab(Duration timeout) {
+        long startNanos = System.nanoTime();
+        String handle = events != null ? awaitEvent(timeout, startNanos) : awaitPolling(timeout);
+        logger.info(
+                "New tab detected ({}) in {}ms: {}",
+                events != null ? "bidi" : "polling",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                handle
+        );
+        return handle;
+    }
+
+    public String switchToNewTab(Duration timeout) {
+        String handle = awaitNewTab(timeout);
+        driver.switchTo().window(handle);
+        return handle;
+    }
+
+    private String awaitEvent(Duration timeout, long startNanos) {
+        String handle;
+        try {
+            handle = events.created.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a new tab.", e);
+        }
+        if (handle == null) {
+            WaitTimings.recordEvent(WaitTimings.Outcome.TIMED_OUT, System.nanoTime() - startNanos);
+            throw new TimeoutException("No browsing context created within " + timeout.toMillis() + "ms");
+        }
+        WaitTimings.recordEvent(WaitTimings.Outcome.SATISFIED, System.nanoTime() - startNanos);
+        return handle;
+    }
+
+    private String awaitPolling(Duration timeout) {
+        return new AdaptiveWait(driver, timeout).until(d -> {
+            Set<String> now = new HashSet<>(d.getWindowHandles());
+            now.removeAll(handlesBefore);
+            return now.isEmpty() ? null : now.iterator().next();
+        });
+    }
+
+    // The inspector references its driver, so the weak map alone never lets go of it; called before quit.
+    static void forget(WebDriver driver) {
+        Optional<ContextEvents> events = EVENTS.remove(DriverSupport.unwrap(driver));
+        if (events != null && events.isPresent()) {
+            try {
+                events.get().inspector.close();
+            } catch (RuntimeException e) {
+                logger.debug("Closing browsing context inspector failed (ignored).", e);
+            }
+        }
+    }
+
+    private static Optional<ContextEvents> contextEvents(WebDriver driver) {
+        WebDriver raw = DriverSupport.unwrap(driver);
+        if (!(raw instanceof HasBiDi bidi)) {
+            return Optional.empty();
+        }
+        synchronized (EVENTS) {
+            return EVENTS.computeIfAbsent(raw, d -> {
+                try {
+                    if (bidi.maybeGetBiDi().isEmpty()) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(new ContextEvents(raw));
+                } catch (RuntimeException e) {
+                    logger.warn("BiDi browsing context events unavailable; polling window handles instead.", e);
+                    return Optional.empty();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package base;
+
+import metrics.PerfReports;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class OverlayGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverlayGuard.class);
+
+    private static final Map<WebDriver, OverlayGuard> BY_DRIVER = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Probes ride on the action's own scroll script; only visible overlays cost extra round trips.
+    private static final LongAdder probes = new LongAdder();
+    private static final LongAdder domScans = new LongAdder();
+    private static final LongAdder cookieScansSkipped = new LongAdder();
+    private static final LongAdder overlaysHandled = new LongAdder();
+
+    static {
+        PerfReports.onTestPlanFinished(OverlayGuard::logStats);
+    }
+
+    public record Probe(
+            String origin,
+            boolean cookieBannerPresent,
+            boolean cookieBannerVisible,
+            boolean popupPresent,
+            boolean popupVisible
+    ) {
+        public boolean anyVisible() {
+            return cookieBannerVisible || popupVisible;
+        }
+    }
+
+    private final Set<String> consentedOrigins = ConcurrentHashMap.newKeySet();
+
+    private OverlayGuard() {
+    }
+
+    public static OverlayGuard of(WebDriver driver) {
+        return BY_DRIVER.computeIfAbsent(DriverSupport.unwrap(driver), d -> new OverlayGuard());
+    }
+
+    static void forget(WebDriver driver) {
+        BY_DRIVER.remove(DriverSupport.unwrap(driver));
+    }
+
+    // Scrolls the element into view and reports overlays in the same script; the cookie banner is not scanned for
+    // origins that already have consent this session.
+    public Probe scrollIntoViewAndProbe(WebDriver driver, WebElement el) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(
+                SCROLL_AND_PROBE_SCRIPT, el, "wt-cli-cookie-banner", "close-button-", List.copyOf(consentedOrigins));
+        Map<?, ?> result = raw instanceof Map<?, ?> map ? map : Map.of();
+        Probe probe = new Probe(
+                String.valueOf(result.get("origin")),
+                Boolean.TRUE.equals(result.get("cookiePresent")),
+                Boolean.TRUE.equals(result.get("cookieVisible")),
+                Boolean.TRUE.equals(result.get("popupPresent")),
+                Boolean.TRUE.equals(result.get("popupVisible"))
+        );
+
+        probes.increment();
+        if (Boolean.TRUE.equals(result.get("scanned"))) {
+            domScans.increment();
+        }
+        if (Boolean.TRUE.equals(result.get("cookieSkipped"))) {
+            cookieScansSkipped.increment();
+        }
+        if (probe.anyVisible()) {
+            overlaysHandled.increment();
+        }
+        return probe;
+    }
+
+    public void rememberConsent(String origin) {
+        if (origin != null && consentedOrigins.add(origin)) {
+            logger.info("Consent remembered for origin {}", origin);
+        }
+    }
+
+    public boolean hasConsent(String origin) {
+        return origin != null && consentedOrigins.contains(origin);
+    }
+
+    private static void logStats() {
+        if (probes.sum() == 0) {
+            return;
+        }
+        logger.info(
+                "Overlay guard stats: probes={} (in the action's scroll script), domScans={}, cookieScansSkipped={}, overlaysHandled={}",
+                probes.sum(),
+                domScans.sum(),
+                cookieScansSkipped.sum(),
+                overlaysHandled.sum()
+        );
+    }
+
+    private static final String SCROLL_AND_PROBE_SCRIPT = """
+            arguments[0].scrollIntoView({block: 'center', inline: 'nearest'});
+            var cookieId = arguments[1], popupPrefix = arguments[2];
+            var skipCookie = arguments[3].indexOf(window.location.origin) >= 0;
+            var visible = function (el) {
+                if (!el || !el.isConnected) {
+                    return false;
+                }
+                var style = window.getComputedStyle(el);
+                return style.display !== 'none' && style.visibility !== 'hidden' && el.getClientRects().length > 0;
+            };
+            var scan = function (guard) {
+                var cookie = skipCookie ? null : document.getElementById(cookieId);
+                var popup = document.querySelector('[id^="' + popupPrefix + '"]');
+                guard.cookiePresent = !!cookie;
+                guard.cookieVisible = visible(cookie);
+                guard.popupPresent = !!popup;
+                guard.popupVisible = visible(popup);
+                guard.dirty = false;
+            };
+            var guard = window.__overlayGuard;
+            if (!guard) {
+                guard = window.__overlayGuard = { dirty: true };
+                new MutationObserver(function () {
+                    guard.dirty = true;
+                }).observe(document.documentElement, {
+                    childList: true,
+                    subtree: true,
+                    attributes: true,
+                    attributeFilter: ['style', 'class', 'hidden']
+                });
+            }
+            var scanned = guard.dirty || guard.cookieVisible || guard.popupVisible;
+            if (scanned) {
+                scan(guard);
+            }
+            return {
+                origin: window.location.origin,
+                scanned: scanned,
+                cookieSkipped: scanned && skipCookie,
+                cookiePresent: guard.cookiePresent,
+                cookieVisible: guard.cookieVisible,
+                popupPresent: guard.popupPresent,
+                popupVisible: guard.popupVisible
+            };
+            """;
+}
@@ -0,0 +1,173 @@
+package base;
+
+import metrics.RetryStats;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// How BasePage interactions retry: a rule per exception type (first match wins), one time budget for the whole
+// interaction including retries, and jittered exponential backoff between attempts.
+public record RetryPolicy(Duration budget, Duration initialBackoff, Duration maxBackoff, List<Rule> rules) {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    public enum Recovery {
+        // Retry as is after the backoff.
+        NONE,
+        // Clear cookie banner / marketing popup before retrying (click intercepted).
+        DISMISS_OVERLAYS,
+        // Find the element again from its locator; not retryable when the caller only has the element.
+        RELOCATE
+    }
+
+    public record Rule(Class<? extends RuntimeException> type, int maxRetries, Recovery recovery) {
+    }
+
+    @FunctionalInterface
+    public interface Attempt<T> {
+        // Timeout is what is left of the budget, capped by the caller's usual wait.
+        T run(Duration timeout);
+    }
+
+    public RetryPolicy {
+        rules = List.copyOf(rules);
+    }
+
+    public static RetryPolicy defaults() {
+        return new RetryPolicy(
+                TestConfig.millisProperty("retry.budgetMillis", 15_000),
+                TestConfig.millisProperty("retry.backoff.initialMillis", 50),
+                TestConfig.millisProperty("retry.backoff.maxMillis", 1_000),
+                List.of(
+                        new Rule(ElementClickInterceptedException.class, TestConfig.intProperty("retry.intercepted.max", 2), Recovery.DISMISS_OVERLAYS),
+                        new Rule(StaleElementReferenceException.class, TestConfig.intProperty("retry.stale.max", 3), Recovery.RELOCATE),
+                        new Rule(ElementNotInteractableException.class, TestConfig.intProperty("retry.notInteractable.max", 1), Recovery.NONE)
+                )
+        );
+    }
+
+    // Rule checked before the existing ones, so it can override a broader type.
+    public RetryPolicy with(Class<? extends RuntimeException> type, int maxRetries, Recovery recovery) {
+        List<Rule> updated = new ArrayList<>();
+        updated.add(new Rule(type, maxRetries, recovery));
+        updated.addAll(rules);
+        return new RetryPolicy(budget, initialBackoff, maxBackoff, updated);
+    }
+
+    public RetryPolicy withBudget(Duration budget) {
+        return new RetryPolicy(budget, initialBackoff, maxBackoff, rules);
+    }
+
+    public <T> T execute(String target, Duration attemptTimeout, boolean relocatable, Attempt<T> attempt, Runnable dismissOverlays) {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + budget.toNanos();
+        int[] retriesPerRule = new int[rules.size()];
+        int retries = 0;
+        long firstFailureNanos = 0;
+        while (true) {
+            try {
+                T result = attempt.run(remaining(attemptTimeout, deadline));
+                if (retries > 0) {
+                    RetryStats.recordRecovered(target, System.nanoTime() - firstFailureNanos);
+                } else {
+                    RetryStats.recordFirstTry(target);
+                }
+                return result;
+            } catch (RuntimeException e) {
+                long now = System.nanoTime();
+                if (retries == 0) {
+                    firstFailureNanos = now;
+                }
+                int index = ruleFor(e);
+                Rule rule = index < 0 ? null : rules.get(index);
+                String reason = giveUpReason(rule, index < 0 ? 0 : retriesPerRule[index], relocatable, deadline - now);
+                if (reason != null) {
+                    RetryStats.recordFailed(target, retries, retries == 0 ? 0 : now - firstFailureNanos, reason);
+                    if (rule != null) {
+                        logger.warn("Giving up on {} after {} retries ({}): {}", target, retries, reason, e.toString());
+                    }
+                    throw e;
+                }
+
+                retriesPerRule[index]++;
+                retries++;
+                RetryStats.recordRetry(target, e.getClass().getSimpleName());
+                long backoffNanos = Math.min(backoff(retries), deadline - System.nanoTime());
+                logger.warn(
+                        "{} ({}), retry {}/{} after {}ms with {}",
+                        e.getClass().getSimpleName(),
+                        target,
+                        retriesPerRule[index],
+                        rule.maxRetries(),
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos),
+                        rule.recovery()
+                );
+                sleep(backoffNanos);
+                if (rule.recovery() == Recovery.DISMISS_OVERLAYS) {
+                    try {
+                        dismissOverlays.run();
+                    } catch (RuntimeException recoveryException) {
+                        logger.debug("Overlay dismissal before retry failed (ignored).", recoveryException);
+                    }
+                }
+            }
+        }
+    }
+
+    private int ruleFor(RuntimeException e) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).type().isInstance(e)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String giveUpReason(Rule rule, int retriesSoFar, boolean relocatable, long remainingNanos) {
+        if (rule == null) {
+            return "not retryable";
+        }
+        if (rule.recovery() == Recovery.RELOCATE && !relocatable) {
+            return "no locator to relocate from";
+        }
+        if (retriesSoFar >= rule.maxRetries()) {
+            return "retries exhausted";
+        }
+        if (remainingNanos <= 0) {
+            return "budget exhausted";
+        }
+        return null;
+    }
+
+    // Equal jitter: half the exponential step fixed, half random, so concurrent tests do not retry in lockstep.
+    private long backoff(int retry) {
+        long step = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(retry - 1, 20));
+        long half = Math.max(1, step / 2);
+        return half + ThreadLocalRandom.current().nextLong(half);
+    }
+
+    private static Duration remaining(Duration attemptTimeout, long deadline) {
+        long remainingNanos = Math.max(0, deadline - System.nanoTime());
+        return remainingNanos < attemptTimeout.toNanos() ? Duration.ofNanos(remainingNanos) : attemptTimeout;
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off before a retry", e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package base;
+
+import metrics.TestDurations;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TagFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Splits the top-level test classes over shard.total shards by recorded duration (longest first, each onto the
+// least-loaded shard) and keeps those of shard.index. Every shard computes the same plan from the same durations file.
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardFilter.class);
+
+    private static final int TOTAL = TestConfig.intProperty("shard.total", 1);
+    private static final int INDEX = TestConfig.intProperty("shard.index", 0);
+    private static final long DEFAULT_MILLIS = TestConfig.intProperty("shard.defaultMillis", 30_000);
+
+    private static volatile Plan plan;
+
+    private final Map<UniqueId, Plan> plansByEngine = new ConcurrentHashMap<>();
+
+    public record Plan(int index, int total, Map<String, Integer> shardOf, Map<String, Long> predictedMillis) {
+
+        public long predictedMillis(int shard) {
+            return shardOf.entrySet().stream()
+                    .filter(entry -> entry.getValue() == shard)
+                    .mapToLong(entry -> predictedMillis.get(entry.getKey()))
+                    .sum();
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> shards = new LinkedHashMap<>();
+            for (int shard = 0; shard < total; shard++) {
+                int current = shard;
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("predictedMillis", predictedMillis(shard));
+                row.put("classes", shardOf.entrySet().stream().filter(entry -> entry.getValue() == current).map(Map.Entry::getKey).toList());
+                shards.put(String.valueOf(shard), row);
+            }
+            return shards;
+        }
+    }
+
+    static {
+        if (TOTAL < 1 || INDEX < 0 || INDEX >= TOTAL) {
+            throw new IllegalArgumentException(
+                    "System properties 'shard.index'/'shard.total' must satisfy 0 <= index < total: '" + INDEX + "'/'" + TOTAL + "'");
+        }
+    }
+
+    // Plan of the last discovery in this JVM, null before discovery.
+    public static Plan plan() {
+        return plan;
+    }
+
+    // Longest processing time first: classes by descending duration (ties by name), each onto the least-loaded shard.
+    public static Map<String, Integer> assign(Map<String, Long> predictedMillis, int shards) {
+        List<String> classes = new ArrayList<>(predictedMillis.keySet());
+        classes.sort(Comparator.comparing((String testClass) -> predictedMillis.get(testClass)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[shards];
+        Map<String, Integer> shardOf = new TreeMap<>();
+        for (String testClass : classes) {
+            int lightest = 0;
+            for (int shard = 1; shard < shards; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += predictedMillis.get(testClass);
+            shardOf.put(testClass, lightest);
+        }
+        return shardOf;
+    }
+
+    // Only leaves are removed by the launcher; containers left empty are pruned afterwards.
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        TestDescriptor engine = descriptor;
+        String topLevelClass = null;
+        while (engine.getParent().isPresent()) {
+            if (engine.getSource().orElse(null) instanceof ClassSource source) {
+                topLevelClass = source.getClassName();
+            }
+            engine = engine.getParent().get();
+        }
+        // The engine descriptor is visited first, so the plan sees every discovered class.
+        TestDescriptor root = engine;
+        Plan current = plansByEngine.computeIfAbsent(root.getUniqueId(), id -> planFor(root));
+        if (TOTAL == 1 || topLevelClass == null) {
+            return FilterResult.included("not sharded");
+        }
+        Integer shard = current.shardOf().get(topLevelClass);
+        return shard == null || shard == INDEX
+                ? FilterResult.included("shard " + INDEX + "/" + TOTAL)
+                : FilterResult.excluded("assigned to shard " + shard + "/" + TOTAL);
+    }
+
+    // Surefire's groups/excludedGroups reach the launcher as tag filters applied next to this one, in no set order,
+    // so the plan applies them itself; otherwise excluded classes would take shard capacity and never get a duration.
+    private static List<PostDiscoveryFilter> tagFilters() {
+        List<PostDiscoveryFilter> filters = new ArrayList<>();
+        List<String> included = tags(TestConfig.stringProperty("groups", ""));
+        List<String> excluded = tags(TestConfig.stringProperty("test.excludedGroups", ""));
+        if (!included.isEmpty()) {
+            filters.add(TagFilter.includeTags(included));
+        }
+        if (!excluded.isEmpty()) {
+            filters.add(TagFilter.excludeTags(excluded));
+        }
+        return filters;
+    }
+
+    private static List<String> tags(String commaSeparated) {
+        return Arrays.stream(commaSeparated.split(",")).map(String::trim).filter(tag -> !tag.isEmpty()).toList();
+    }
+
+    private static boolean runsAnyTest(TestDescriptor testClass, List<PostDiscoveryFilter> tagFilters) {
+        return testClass.getDescendants().stream()
+                .filter(descriptor -> descriptor.getChildren().isEmpty())
+                .anyMatch(leaf -> tagFilters.stream().allMatch(filter -> filter.apply(leaf).included()));
+    }
+
+    private static Plan planFor(TestDescriptor engine) {
+        Set<String> classes = new TreeSet<>();
+        List<PostDiscoveryFilter> tagFilters = tagFilters();
+        for (TestDescriptor child : engine.getChildren()) {
+            if (child.getSource().orElse(null) instanceof ClassSource source && runsAnyTest(child, tagFilters)) {
+                classes.add(source.getClassName());
+            }
+        }
+
+        Map<String, Long> history = TestDurations.history();
+        long unknownMillis = history.isEmpty()
+                ? DEFAULT_MILLIS
+                : Math.round(history.values().stream().mapToLong(Long::longValue).average().orElse(DEFAULT_MILLIS));
+        Map<String, Long> predicted = new TreeMap<>();
+        classes.forEach(testClass -> predicted.put(testClass, history.getOrDefault(testClass, unknownMillis)));
+
+        Plan current = new Plan(INDEX, TOTAL, assign(predicted, TOTAL), predicted);
+        plan = current;
+        logger.info(
+                "Shard {}/{}: {} of {} classes, predicted {}ms (durations from {}, {} classes without history)",
+                INDEX,
+                TOTAL,
+                current.shardOf().values().stream().filter(shard -> shard == INDEX).count(),
+                classes.size(),
+                current.predictedMillis(INDEX),
+                TestDurations.file(),
+                classes.stream().filter(testClass -> !history.containsKey(testClass)).count()
+        );
+        return current;
+    }
+}
@@ -0,0 +1,61 @@
+package base;
+
+import fixtures.FixtureServer;
+
+public final class SiteConfig {
+
+    public static final String LIVE_SITE_BASE_URL = "https://insiderone.com";
+    public static final String LIVE_LEVER_BASE_URL = "https://jobs.lever.co";
+
+    private static volatile FixtureServer fixtureServer;
+
+    private SiteConfig() {
+    }
+
+    public static boolean isFixtureTarget() {
+        return "fixture".equalsIgnoreCase(TestConfig.stringProperty("site.target", "live"));
+    }
+
+    public static String siteBaseUrl() {
+        String override = TestConfig.stringProperty("site.baseUrl", null);
+        if (override != null) {
+            return stripTrailingSlash(override);
+        }
+        return isFixtureTarget() ? fixtureServer().baseUrl() : LIVE_SITE_BASE_URL;
+    }
+
+    public static String leverBaseUrl() {
+        String override = TestConfig.stringProperty("lever.baseUrl", null);
+        if (override != null) {
+            return stripTrailingSlash(override);
+        }
+        return isFixtureTarget() ? fixtureServer().leverBaseUrl() : LIVE_LEVER_BASE_URL;
+    }
+
+    public static String siteUrl(String path) {
+        return siteBaseUrl() + path;
+    }
+
+    public static boolean isLeverUrl(String url) {
+        return url != null && url.startsWith(leverBaseUrl());
+    }
+
+    public static FixtureServer fixtureServer() {
+        FixtureServer server = fixtureServer;
+        if (server == null) {
+            synchronized (SiteConfig.class) {
+                server = fixtureServer;
+                if (server == null) {
+                    server = FixtureServer.start(FixtureServer.Options.defaults());
+                    Runtime.getRuntime().addShutdownHook(new Thread(server::close, "fixture-server-shutdown"));
+                    fixtureServer = server;
+                }
+            }
+        }
+        return server;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,55 @@
+package base;
+
+import java.time.Duration;
+
+public final class TestConfig {
+
+    private TestConfig() {
+    }
+
+    public static String stringProperty(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("System property '" + name + "' is not an integer: '" + value + "'", e);
+        }
+    }
+
+    public static boolean booleanProperty(String name, boolean defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    public static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("System property '" + name + "' is not a number: '" + value + "'", e);
+        }
+    }
+
+    public static Duration millisProperty(String name, long defaultMillis) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return Duration.ofMillis(defaultMillis);
+        }
+        try {
+            return Duration.ofMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("System property '" + name + "' is not a millisecond value: '" + value + "'", e);
+        }
+    }
+}
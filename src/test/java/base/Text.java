@@ -0,0 +1,25 @@
+package base;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class Text {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]");
+
+    private Text() {
+    }
+
+    public static String normalizeWhitespace(String s) {
+        if (s == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    // Lower-case alphanumerics only, as in the site's "department=qualityassurance" links.
+    public static String slug(String s) {
+        return s == null ? "" : NON_ALPHANUMERIC.matcher(s.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+}
@@ -0,0 +1,125 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Incognito-like browser contexts (own cookies, storage, cache) opened as a tab inside a long-lived Chrome:
+// BiDi user contexts when the session has BiDi, CDP Target.createBrowserContext otherwise.
+public final class UserContexts {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserContexts.class);
+
+    public enum Isolation {
+        SESSION,
+        CONTEXT
+    }
+
+    private static final Isolation ISOLATION = parse(TestConfig.stringProperty("driver.isolation", "session"));
+
+    public record Lease(String contextId, String handle, boolean bidi) {
+    }
+
+    private UserContexts() {
+    }
+
+    public static Isolation isolation() {
+        return ISOLATION;
+    }
+
+    // Opens a fresh context with one tab and switches to it; null when the driver supports neither protocol.
+    public static Lease open(WebDriver driver) {
+        WebDriver raw = DriverSupport.unwrap(driver);
+        long startNanos = System.nanoTime();
+        Lease lease = openBiDi(raw);
+        if (lease == null) {
+            lease = openCdp(raw);
+        }
+        if (lease == null) {
+            return null;
+        }
+
+        raw.switchTo().window(lease.handle());
+        NetworkPolicyInterceptor.detach(raw);
+        OverlayGuard.forget(raw);
+        ConsentSeed.discard(raw);
+        logger.info(
+                "Browser context opened ({}, context={}, latencyMs={})",
+                lease.bidi() ? "bidi" : "cdp",
+                lease.contextId(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+        );
+        return lease;
+    }
+
+    // Drops the context with all its tabs and state, and returns the session to its home window.
+    public static boolean close(WebDriver driver, Lease lease, String homeHandle) {
+        WebDriver raw = DriverSupport.unwrap(driver);
+        try {
+            NetworkPolicyInterceptor.detach(raw);
+            raw.switchTo().window(homeHandle);
+            if (lease.bidi()) {
+                new Browser(raw).removeUserContext(lease.contextId());
+            } else {
+                ((HasCdp) raw).executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", lease.contextId()));
+            }
+            OverlayGuard.forget(raw);
+            ConsentSeed.discard(raw);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Browser context close failed (context={}).", lease.contextId(), e);
+            return false;
+        }
+    }
+
+    private static Lease openBiDi(WebDriver driver) {
+        if (!(driver instanceof HasBiDi bidi) || bidi.maybeGetBiDi().isEmpty()) {
+            return null;
+        }
+        try {
+            String contextId = new Browser(driver).createUserContext();
+            BrowsingContext tab = new BrowsingContext(driver, new CreateContextParameters(WindowType.TAB).userContext(contextId));
+            return new Lease(contextId, tab.getId(), true);
+        } catch (RuntimeException e) {
+            logger.warn("BiDi user context unavailable; trying CDP browser contexts.", e);
+            return null;
+        }
+    }
+
+    private static Lease openCdp(WebDriver driver) {
+        if (!(driver instanceof HasCdp cdp)) {
+            return null;
+        }
+        try {
+            Map<String, Object> context = cdp.executeCdpCommand("Target.createBrowserContext", Map.of("disposeOnDetach", false));
+            String contextId = String.valueOf(context.get("browserContextId"));
+            Map<String, Object> target = cdp.executeCdpCommand(
+                    "Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId)
+            );
+            // ChromeDriver window handles are DevTools target ids.
+            return new Lease(contextId, String.valueOf(target.get("targetId")), false);
+        } catch (RuntimeException e) {
+            logger.warn("CDP browser contexts unavailable.", e);
+            return null;
+        }
+    }
+
+    private static Isolation parse(String value) {
+        try {
+            return Isolation.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("System property 'driver.isolation' must be session or context: '" + value + "'", e);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package fixtures;
+
+import base.TestConfig;
+import base.Text;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class FixtureServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixtureServer.class);
+    private static final Json JSON = new Json();
+
+    public static final String LEVER_PATH = "/lever/insiderone/";
+
+    public record Job(String id, String title, String department, String location) {
+    }
+
+    public record Options(Duration pageDelay, Duration jobsApiDelay, List<Job> jobs) {
+
+        public static Options defaults() {
+            return new Options(
+                    TestConfig.millisProperty("fixture.pageDelayMillis", 0),
+                    TestConfig.millisProperty("fixture.jobsDelayMillis", 0),
+                    withGeneratedQaJobs(loadJobs("/fixtures/jobs.json"), TestConfig.intProperty("fixture.extraQaJobs", 0))
+            );
+        }
+
+        public Options withJobs(List<Job> jobs) {
+            return new Options(pageDelay, jobsApiDelay, List.copyOf(jobs));
+        }
+
+        public Options withJobsApiDelay(Duration delay) {
+            return new Options(pageDelay, delay, jobs);
+        }
+
+        public Options withPageDelay(Duration delay) {
+            return new Options(delay, jobsApiDelay, jobs);
+        }
+    }
+
+    private final Options options;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private FixtureServer(Options options) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static FixtureServer start(Options options) {
+        try {
+            FixtureServer fixture = new FixtureServer(options);
+            fixture.server.start();
+            logger.info("Fixture server started: {} (jobs={}, pageDelayMs={}, jobsDelayMs={})",
+                    fixture.baseUrl(),
+                    options.jobs().size(),
+                    options.pageDelay().toMillis(),
+                    options.jobsApiDelay().toMillis());
+            return fixture;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start fixture server", e);
+        }
+    }
+
+    public String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    public String leverBaseUrl() {
+        return baseUrl() + "/lever";
+    }
+
+    // Most requests the server was handling at the same time, as seen from the server side.
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public String leverHref(Job job) {
+        return baseUrl() + LEVER_PATH + job.id();
+    }
+
+    public Options options() {
+        return options;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // Inside the resource block: try-with-resources closes the exchange before its own catch clauses run.
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                route(exchange);
+            } catch (NumberFormatException e) {
+                respondAfterFailure(exchange, 400, "Bad request: " + e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warn("Fixture request failed: {}", exchange.getRequestURI(), e);
+                respondAfterFailure(exchange, 500, "Fixture error: " + e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        if (path.equals("/api/jobs")) {
+            sleep(options.jobsApiDelay());
+            respond(exchange, 200, "application/json", JSON.toJson(filterJobs(query)));
+            return;
+        }
+
+        if (path.startsWith("/fixtures/") && path.endsWith(".js")) {
+            respond(exchange, 200, "application/javascript", resource(path));
+            return;
+        }
+
+        String page = switch (path) {
+            case "/", "/index.html" -> resource("/fixtures/home.html");
+            case "/careers/quality-assurance/" -> resource("/fixtures/careers-quality-assurance.html");
+            case "/careers/open-positions/" -> resource("/fixtures/open-positions.html");
+            case "/fixtures/job-cards" -> jobCardsPage(
+                    Integer.parseInt(query.getOrDefault("count", "10")),
+                    Integer.parseInt(query.getOrDefault("filler", "0"))
+            );
+            case "/fixtures/new-tab" -> newTabPage(Integer.parseInt(query.getOrDefault("delay", "300")));
+            default -> path.startsWith(LEVER_PATH) ? leverPosting(path.substring(LEVER_PATH.length())) : null;
+        };
+
+        if (page == null) {
+            respond(exchange, 404, "text/plain", "Not found: " + path);
+            return;
+        }
+        sleep(options.pageDelay());
+        respond(exchange, 200, "text/html", page);
+    }
+
+    // Always answer, so a browser or HttpClient sees the failure at once instead of waiting for its timeout.
+    private static void respondAfterFailure(HttpExchange exchange, int status, String message) {
+        try {
+            respond(exchange, status, "text/plain", message);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not send {} for {} (response already started).", status, exchange.getRequestURI(), e);
+        }
+    }
+
+    private List<Map<String, Object>> filterJobs(Map<String, String> query) {
+        String department = query.getOrDefault("department", "");
+        String location = query.getOrDefault("location", "");
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Job job : options.jobs()) {
+            if (!department.isBlank() && !slug(job.department()).equals(slug(department))) {
+                continue;
+            }
+            if (!location.isBlank() && !slug(job.location()).equals(slug(location))) {
+                continue;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", job.id());
+            row.put("title", job.title());
+            row.put("department", job.department());
+            row.put("location", job.location());
+            row.put("href", leverHref(job));
+            result.add(row);
+        }
+        return result;
+    }
+
+    private String leverPosting(String id) {
+        for (Job job : options.jobs()) {
+            if (job.id().equals(id)) {
+                return resource("/fixtures/lever-posting.html")
+                        .replace("{{title}}", escapeHtml(job.title()))
+                        .replace("{{department}}", escapeHtml(job.department()))
+                        .replace("{{location}}", escapeHtml(job.location()));
+            }
+        }
+        return null;
+    }
+
+    private String jobCardsPage(int count, int fillerNodes) {
+        StringBuilder html = new StringBuilder(512 + count * 512 + fillerNodes * 48)
+                .append("<!doctype html><html><head><meta charset=\"utf-8\"><title>Job cards</title></head><body>")
+                .append("<button id=\"bench-button\" type=\"button\" onclick=\"this.dataset.clicks = (+this.dataset.clicks || 0) + 1\">")
+                .append("Click</button>")
+                .append("<div id=\"filler\">");
+        for (int i = 0; i < fillerNodes; i++) {
+            html.append("<div class=\"filler-node\"><span>filler ").append(i).append("</span></div>");
+        }
+        html.append("</div><div id=\"jobs-list\">");
+        for (int i = 0; i < count; i++) {
+            Job job = new Job("card-" + i, "Senior Software Quality Assurance Engineer " + i,
+                    "Quality Assurance", "Istanbul, Turkiye");
+            html.append("<div class=\"position-list-item\">")
+                    .append("<p class=\"position-title\">").append(escapeHtml(job.title())).append("</p>")
+                    .append("<span class=\"position-department\">").append(escapeHtml(job.department())).append("</span>")
+                    .append("<div class=\"position-location\">").append(escapeHtml(job.location())).append("</div>")
+                    .append("<a class=\"btn btn-navy\" target=\"_blank\" href=\"").append(leverHref(job))
+                    .append("\">View Role</a>")
+                    .append("</div>");
+        }
+        return html.append("</div></body></html>").toString();
+    }
+
+    // target=_blank link and a delayed window.open, both to the first job's posting.
+    private String newTabPage(int delayMillis) {
+        String href = escapeHtml(leverHref(options.jobs().getFirst()));
+        return "<!doctype html><html><head><meta charset=\"utf-8\"><title>New tab</title></head><body>"
+                + "<a id=\"blank-link\" target=\"_blank\" href=\"" + href + "\">Open posting</a>"
+                + "<button id=\"delayed-open\" type=\"button\" onclick=\"setTimeout(function () { window.open('"
+                + href + "', '_blank'); }, " + delayMillis + ")\">Open later</button>"
+                + "</body></html>";
+    }
+
+    public static String slug(String value) {
+        return Text.slug(value);
+    }
+
+    // Extra QA postings in Istanbul, for runs that need dozens of eligible jobs.
+    public static List<Job> generatedQaJobs(int count) {
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            jobs.add(new Job(
+                    "qa-ist-gen-" + i,
+                    "Software Quality Assurance Engineer " + i,
+                    "Quality Assurance",
+                    i % 2 == 0 ? "Istanbul, Turkey" : "Istanbul, Turkiye"
+            ));
+        }
+        return List.copyOf(jobs);
+    }
+
+    private static List<Job> withGeneratedQaJobs(List<Job> jobs, int extra) {
+        if (extra <= 0) {
+            return jobs;
+        }
+        List<Job> all = new ArrayList<>(jobs);
+        all.addAll(generatedQaJobs(extra));
+        return List.copyOf(all);
+    }
+
+    public static List<Job> loadJobs(String resourcePath) {
+        try (InputStream in = FixtureServer.class.getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture resource not found: " + resourcePath);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                List<Map<String, Object>> rows = JSON.toType(reader, Json.LIST_OF_MAPS_TYPE);
+                List<Job> jobs = new ArrayList<>(rows.size());
+                for (Map<String, Object> row : rows) {
+                    jobs.add(new Job(
+                            String.valueOf(row.get("id")),
+                            String.valueOf(row.get("title")),
+                            String.valueOf(row.get("department")),
+                            String.valueOf(row.get("location"))
+                    ));
+                }
+                return List.copyOf(jobs);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture resource: " + resourcePath, e);
+        }
+    }
+
+    private static String resource(String resourcePath) {
+        try (InputStream in = FixtureServer.class.getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture resource not found: " + resourcePath);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture resource: " + resourcePath, e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isBlank()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(key, value);
+        }
+        return query;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration delay) {
+        if (delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String escapeHtml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,37 @@
+package fixtures;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+// One FixtureServer per test class: started before the first test and closed through the class's extension store.
+// Register with @RegisterExtension on a static field.
+public final class FixtureServerExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FixtureServerExtension.class);
+
+    private final FixtureServer.Options options;
+    private volatile FixtureServer server;
+
+    public FixtureServerExtension() {
+        this(FixtureServer.Options.defaults());
+    }
+
+    public FixtureServerExtension(FixtureServer.Options options) {
+        this.options = options;
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        FixtureServer started = FixtureServer.start(options);
+        context.getStore(NAMESPACE).put(context.getRequiredTestClass(), (ExtensionContext.Store.CloseableResource) started::close);
+        server = started;
+    }
+
+    public FixtureServer server() {
+        FixtureServer current = server;
+        if (current == null) {
+            throw new IllegalStateException("Fixture server not started; register FixtureServerExtension on a static field.");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,174 @@
+package lever;
+
+import base.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static base.Text.normalizeWhitespace;
+
+// HTTP counterpart of LeverJobPage: reads the same fields from the posting HTML without a browser.
+public final class LeverPostingClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeverPostingClient.class);
+
+    private static final LeverPostingClient SHARED = new LeverPostingClient(
+            HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build(),
+            TestConfig.millisProperty("lever.http.timeoutMillis", 15_000)
+    );
+
+    private static final int FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+    private static final Pattern H2 = Pattern.compile("<h2\\b[^>]*>(.*?)</h2>", FLAGS);
+    private static final Pattern CLASSED_OPEN_TAG = Pattern.compile("<(\\w+)\\b[^>]*\\bclass\\s*=\\s*[\"']([^\"']*)[\"'][^>]*>", FLAGS);
+    private static final Pattern ANY_TAG = Pattern.compile("<(/?)(\\w+)\\b[^>]*?(/?)>", FLAGS);
+    private static final Pattern TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern ENTITY = Pattern.compile("&(#[xX][0-9a-fA-F]+|#\\d+|amp|lt|gt|quot|apos|nbsp);");
+
+    public record Posting(String url, int status, String title, String department, String location, long latencyNanos) {
+
+        public boolean found() {
+            return status == 200 && !title.isEmpty();
+        }
+
+        public long latencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        }
+    }
+
+    private final HttpClient client;
+    private final Duration timeout;
+
+    public LeverPostingClient(HttpClient client, Duration timeout) {
+        this.client = client;
+        this.timeout = timeout;
+    }
+
+    public static LeverPostingClient shared() {
+        return SHARED;
+    }
+
+    public Posting fetch(String href) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(href))
+                .timeout(timeout)
+                .header("Accept", "text/html")
+                .GET()
+                .build();
+
+        long startNanos = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lever posting request failed: " + href, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching Lever posting: " + href, e);
+        }
+        long latencyNanos = System.nanoTime() - startNanos;
+
+        Posting posting = response.statusCode() == 200
+                ? parse(href, response.body(), latencyNanos)
+                : new Posting(href, response.statusCode(), "", "", "", latencyNanos);
+        logger.info(
+                "Lever posting over HTTP: status={}, latencyMs={}, title='{}', dept='{}', loc='{}' (url={})",
+                posting.status(),
+                posting.latencyMillis(),
+                posting.title(),
+                posting.department(),
+                posting.location(),
+                href
+        );
+        return posting;
+    }
+
+    // Same scoping as LeverJobPage's selectors: the title inside .posting-headline, the fields inside .posting-categories.
+    public static Posting parse(String url, String html, long latencyNanos) {
+        String title = "";
+        int[] headline = element(html, "posting-headline", 0, html.length());
+        if (headline != null) {
+            Matcher h2 = H2.matcher(html).region(headline[0], headline[1]);
+            if (h2.find()) {
+                title = text(h2.group(1));
+            }
+        }
+
+        String department = "";
+        String location = "";
+        int[] categories = element(html, "posting-categories", 0, html.length());
+        if (categories != null) {
+            department = classText(html, "department", categories);
+            location = classText(html, "location", categories);
+        }
+        return new Posting(url, 200, title, department, location, latencyNanos);
+    }
+
+    private static String classText(String html, String className, int[] within) {
+        int[] content = element(html, className, within[0], within[1]);
+        return content == null ? "" : text(html.substring(content[0], content[1]));
+    }
+
+    // Content bounds {start, end} of the first element in [from, to) carrying the class, matched to its own closing
+    // tag by depth so nested elements of the same tag do not end it early; null when absent or unbalanced.
+    private static int[] element(String html, String className, int from, int to) {
+        Matcher open = CLASSED_OPEN_TAG.matcher(html).region(from, to);
+        while (open.find()) {
+            if (!Set.of(open.group(2).toLowerCase(Locale.ROOT).trim().split("\\s+")).contains(className)) {
+                continue;
+            }
+            String name = open.group(1);
+            int depth = 1;
+            Matcher tag = ANY_TAG.matcher(html).region(open.end(), to);
+            while (tag.find()) {
+                if (!tag.group(2).equalsIgnoreCase(name) || !tag.group(3).isEmpty()) {
+                    continue;
+                }
+                depth += tag.group(1).isEmpty() ? 1 : -1;
+                if (depth == 0) {
+                    return new int[]{open.end(), tag.start()};
+                }
+            }
+            return null;
+        }
+        return null;
+    }
+
+    private static String text(String fragment) {
+        String withoutTags = TAG.matcher(fragment).replaceAll(" ");
+        return normalizeWhitespace(ENTITY.matcher(withoutTags).replaceAll(m -> Matcher.quoteReplacement(decode(m.group(1)))));
+    }
+
+    private static String decode(String entity) {
+        return switch (entity) {
+            case "amp" -> "&";
+            case "lt" -> "<";
+            case "gt" -> ">";
+            case "quot" -> "\"";
+            case "apos" -> "'";
+            case "nbsp" -> " ";
+            default -> {
+                boolean hex = entity.startsWith("#x") || entity.startsWith("#X");
+                try {
+                    yield Character.toString(Integer.parseInt(entity.substring(hex ? 2 : 1), hex ? 16 : 10));
+                } catch (IllegalArgumentException e) {
+                    // Out of int or Unicode range: keep the entity text rather than failing the whole fetch.
+                    yield "&" + entity + ";";
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package lever;
+
+import base.TestConfig;
+import metrics.PerfReports;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pages.QAJobsPage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Verifies every eligible posting over HTTP on virtual threads, at most maxConcurrency requests in flight.
+public final class LeverPostingVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeverPostingVerifier.class);
+
+    // What a matching posting is belongs to the test; null when the fetched fields match the preview.
+    @FunctionalInterface
+    public interface Criteria {
+        String mismatch(QAJobsPage.JobPreview expected, String title, String department, String location);
+    }
+
+    public record Result(QAJobsPage.JobPreview preview, LeverPostingClient.Posting posting, String failure, long latencyNanos) {
+
+        public boolean passed() {
+            return failure == null;
+        }
+
+        public long latencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        }
+    }
+
+    public record Report(List<Result> results, long wallNanos, int maxInFlight) {
+
+        public List<Result> failures() {
+            return results.stream().filter(r -> !r.passed()).toList();
+        }
+
+        public boolean allPassed() {
+            return results.stream().allMatch(Result::passed);
+        }
+
+        public String table() {
+            StringBuilder table = new StringBuilder(String.format("%-4s %-5s %9s  %-60s %s%n", "#", "OK", "latencyMs", "title", "href / failure"));
+            for (int i = 0; i < results.size(); i++) {
+                Result result = results.get(i);
+                table.append(String.format(
+                        "%-4d %-5s %9d  %-60s %s%n",
+                        i + 1,
+                        result.passed() ? "PASS" : "FAIL",
+                        result.latencyMillis(),
+                        abbreviate(result.preview().title(), 60),
+                        result.passed() ? result.preview().href() : result.preview().href() + " -> " + result.failure()
+                ));
+            }
+            return table.toString();
+        }
+    }
+
+    private final LeverPostingClient client;
+    private final int maxConcurrency;
+    private final Criteria criteria;
+
+    public LeverPostingVerifier(LeverPostingClient client, int maxConcurrency, Criteria criteria) {
+        this.client = client;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.criteria = criteria;
+    }
+
+    public static LeverPostingVerifier configured(Criteria criteria) {
+        return new LeverPostingVerifier(LeverPostingClient.shared(), TestConfig.intProperty("lever.verify.concurrency", 8), criteria);
+    }
+
+    public Report verifyAll(List<QAJobsPage.JobPreview> previews) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        long startNanos = System.nanoTime();
+        List<Result> results = new ArrayList<>(previews.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Result>> futures = new ArrayList<>(previews.size());
+            for (QAJobsPage.JobPreview preview : previews) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        return verify(preview);
+                    } finally {
+                        inFlight.decrementAndGet();
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying Lever postings.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Lever posting verification task failed.", e.getCause());
+        }
+
+        Report report = new Report(List.copyOf(results), System.nanoTime() - startNanos, maxInFlight.get());
+        logger.info(
+                "Verified {} Lever postings over HTTP: passed={}, failed={}, wallMs={}, maxInFlight={}\n{}",
+                results.size(),
+                results.size() - report.failures().size(),
+                report.failures().size(),
+                TimeUnit.NANOSECONDS.toMillis(report.wallNanos()),
+                report.maxInFlight(),
+                report.table()
+        );
+        PerfReports.writeJson("lever-postings.json", toMap(report));
+        return report;
+    }
+
+    private Result verify(QAJobsPage.JobPreview preview) {
+        long startNanos = System.nanoTime();
+        try {
+            LeverPostingClient.Posting posting = client.fetch(preview.href());
+            String failure = posting.status() != 200
+                    ? "HTTP " + posting.status()
+                    : criteria.mismatch(preview, posting.title(), posting.department(), posting.location());
+            return new Result(preview, posting, failure, System.nanoTime() - startNanos);
+        } catch (RuntimeException e) {
+            return new Result(preview, null, e.getClass().getSimpleName() + ": " + e.getMessage(), System.nanoTime() - startNanos);
+        }
+    }
+
+    private static Map<String, Object> toMap(Report report) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Result result : report.results()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("title", result.preview().title());
+            row.put("href", result.preview().href());
+            row.put("passed", result.passed());
+            row.put("failure", result.failure());
+            row.put("latencyMillis", result.latencyMillis());
+            rows.add(row);
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("wallMillis", TimeUnit.NANOSECONDS.toMillis(report.wallNanos()));
+        map.put("maxInFlight", report.maxInFlight());
+        map.put("postings", rows);
+        return map;
+    }
+
+    private static String abbreviate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max - 3) + "...";
+    }
+}
@@ -0,0 +1,91 @@
+package metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class BrowserProfileTimings {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserProfileTimings.class);
+
+    private static final Map<String, ProfileStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        PerfReports.onTestPlanFinished(BrowserProfileTimings::report);
+    }
+
+    private static final class ProfileStats {
+        private volatile Map<String, Object> settings = Map.of();
+        private final LatencyHistogram startup = new LatencyHistogram();
+        private final Map<String, LatencyHistogram> pageReady = new ConcurrentHashMap<>();
+        private final Map<String, LatencyHistogram> pageFullLoad = new ConcurrentHashMap<>();
+    }
+
+    private BrowserProfileTimings() {
+    }
+
+    public static void recordStartup(String profile, Map<String, Object> settings, long nanos) {
+        ProfileStats stats = stats(profile);
+        stats.settings = settings;
+        stats.startup.recordNanos(nanos);
+    }
+
+    public static void recordPageReady(String profile, String page, double readyMs) {
+        stats(profile).pageReady.computeIfAbsent(page, p -> new LatencyHistogram()).recordNanos(millisToNanos(readyMs));
+    }
+
+    public static void recordPageFullLoad(String profile, String page, double loadEndMs) {
+        stats(profile).pageFullLoad.computeIfAbsent(page, p -> new LatencyHistogram()).recordNanos(millisToNanos(loadEndMs));
+    }
+
+    private static ProfileStats stats(String profile) {
+        return STATS.computeIfAbsent(profile, p -> new ProfileStats());
+    }
+
+    private static long millisToNanos(double millis) {
+        return Math.max(0, Math.round(millis * 1_000_000));
+    }
+
+    private static void report() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> report = new TreeMap<>();
+        STATS.forEach((profile, stats) -> {
+            Map<String, Object> ready = new TreeMap<>();
+            stats.pageReady.forEach((page, histogram) -> ready.put(page, histogram.toMap()));
+            Map<String, Object> fullLoad = new TreeMap<>();
+            stats.pageFullLoad.forEach((page, histogram) -> fullLoad.put(page, histogram.toMap()));
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("settings", stats.settings);
+            entry.put("startup", stats.startup.toMap());
+            entry.put("pageReady", ready);
+            entry.put("pageFullLoad", fullLoad);
+            report.put(profile, entry);
+
+            logger.info(
+                    "Browser profile {}: starts={}, startup meanMs={}, p95Ms={}",
+                    profile,
+                    stats.startup.count(),
+                    String.format("%.0f", stats.startup.meanMillis()),
+                    String.format("%.0f", stats.startup.percentileMillis(95))
+            );
+            stats.pageReady.forEach((page, histogram) -> logger.info(
+                    "Browser profile {}: {} ready p50Ms={}, full load p50Ms={}",
+                    profile,
+                    page,
+                    String.format("%.0f", histogram.percentileMillis(50)),
+                    stats.pageFullLoad.containsKey(page)
+                            ? String.format("%.0f", stats.pageFullLoad.get(page).percentileMillis(50))
+                            : "n/a"
+            ));
+        });
+        PerfReports.writeJson("browser-profiles.json", report);
+    }
+}
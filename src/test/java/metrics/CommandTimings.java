@@ -0,0 +1,176 @@
+package metrics;
+
+import base.BasePage;
+import base.TestConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class CommandTimings implements WebDriverListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandTimings.class);
+
+    private static final boolean ENABLED = TestConfig.booleanProperty("perf.commandTiming", true);
+    private static final int TOP_N = TestConfig.intProperty("perf.commandTiming.topN", 10);
+
+    private static final CommandTimings INSTANCE = new CommandTimings();
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    static {
+        PerfReports.onTestPlanFinished(INSTANCE::report);
+    }
+
+    private record Call(long startNanos, String command, String locator, String caller) {
+    }
+
+    private final Map<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> byLocator = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> byCaller = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> byCommandAndCaller = new ConcurrentHashMap<>();
+    private final Map<Object, String> elementLocators = Collections.synchronizedMap(new WeakHashMap<>());
+    private final ThreadLocal<Deque<Call>> inFlight = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private CommandTimings() {
+    }
+
+    public static WebDriver instrument(WebDriver driver) {
+        if (!ENABLED) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        String locator = null;
+        if (args != null && args.length > 0 && args[0] instanceof By by) {
+            locator = by.toString();
+        } else if (target instanceof WebElement) {
+            locator = elementLocators.get(target);
+        }
+        inFlight.get().push(new Call(System.nanoTime(), method.getName(), locator, caller()));
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        Call call = complete();
+        if (call == null || call.locator() == null) {
+            return;
+        }
+        if (result instanceof WebElement element) {
+            elementLocators.put(element, call.locator());
+        } else if (result instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof WebElement element) {
+                    elementLocators.put(element, call.locator());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        complete();
+    }
+
+    public void report() {
+        if (byCommand.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("byCommand", toMaps(byCommand));
+        report.put("byLocator", toMaps(byLocator));
+        report.put("byPageMethod", toMaps(byCaller));
+        report.put("byCommandAndPageMethod", toMaps(byCommandAndCaller));
+        PerfReports.writeJson("webdriver-commands.json", report);
+
+        logger.info("Top {} WebDriver commands by total time (command @ page method):", TOP_N);
+        byCommandAndCaller.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalMillis()).reversed())
+                .limit(TOP_N)
+                .forEach(e -> logger.info(
+                        "  {} count={}, totalMs={}, p50Ms={}, p99Ms={}, maxMs={}",
+                        e.getKey(),
+                        e.getValue().count(),
+                        String.format("%.1f", e.getValue().totalMillis()),
+                        String.format("%.1f", e.getValue().percentileMillis(50)),
+                        String.format("%.1f", e.getValue().percentileMillis(99)),
+                        String.format("%.1f", e.getValue().maxMillis())
+                ));
+    }
+
+    private Call complete() {
+        Deque<Call> calls = inFlight.get();
+        Call call = calls.poll();
+        if (call == null) {
+            return null;
+        }
+        long elapsedNanos = System.nanoTime() - call.startNanos();
+        histogram(byCommand, call.command()).recordNanos(elapsedNanos);
+        histogram(byCaller, call.caller()).recordNanos(elapsedNanos);
+        histogram(byCommandAndCaller, call.command() + " @ " + call.caller()).recordNanos(elapsedNanos);
+        if (call.locator() != null) {
+            histogram(byLocator, call.locator()).recordNanos(elapsedNanos);
+        }
+        return call;
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String key) {
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    private static Map<String, Object> toMaps(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> maps = new TreeMap<>();
+        histograms.forEach((key, histogram) -> maps.put(key, histogram.toMap()));
+        return maps;
+    }
+
+    static String caller() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> {
+            List<StackWalker.StackFrame> candidates = frames
+                    .filter(f -> BasePage.class.isAssignableFrom(f.getDeclaringClass()))
+                    .toList();
+            return candidates.stream()
+                    .filter(f -> f.getDeclaringClass() != BasePage.class)
+                    .findFirst()
+                    .or(() -> candidates.stream().findFirst());
+        });
+        if (frame.isEmpty()) {
+            frame = STACK_WALKER.walk(frames -> frames
+                    .filter(f -> f.getDeclaringClass().getPackageName().equals("tests"))
+                    .findFirst());
+        }
+        return frame
+                .map(f -> f.getDeclaringClass().getSimpleName() + "." + methodName(f.getMethodName()))
+                .orElse("(other)");
+    }
+
+    private static String methodName(String name) {
+        if (name.startsWith("lambda$")) {
+            String trimmed = name.substring("lambda$".length());
+            int end = trimmed.lastIndexOf('$');
+            return end > 0 ? trimmed.substring(0, end) : trimmed;
+        }
+        return name;
+    }
+}
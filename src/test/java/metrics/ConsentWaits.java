@@ -0,0 +1,73 @@
+package metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Cookie banner waits skipped thanks to seeded/remembered consent versus waits actually paid, per test scenario.
+public final class ConsentWaits {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsentWaits.class);
+
+    private static final Map<String, ScenarioStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        PerfReports.onTestPlanFinished(ConsentWaits::report);
+    }
+
+    private static final class ScenarioStats {
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder avoidedNanos = new LongAdder();
+        private final LatencyHistogram waited = new LatencyHistogram();
+    }
+
+    private ConsentWaits() {
+    }
+
+    public static void recordSkipped(Duration budget) {
+        ScenarioStats stats = stats();
+        stats.skipped.increment();
+        stats.avoidedNanos.add(budget.toNanos());
+    }
+
+    public static void recordWaited(long nanos) {
+        stats().waited.recordNanos(nanos);
+    }
+
+    private static ScenarioStats stats() {
+        String scenario = MDC.get("test");
+        return STATS.computeIfAbsent(scenario == null ? "unknown" : scenario, s -> new ScenarioStats());
+    }
+
+    private static void report() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> report = new TreeMap<>();
+        STATS.forEach((scenario, stats) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("waitsSkipped", stats.skipped.sum());
+            entry.put("avoidedMillis", stats.avoidedNanos.sum() / 1_000_000);
+            entry.put("waited", stats.waited.toMap());
+            report.put(scenario, entry);
+
+            logger.info(
+                    "Cookie banner waits ({}): skipped={}, avoidedMs={}, paid={} totalMs={}",
+                    scenario,
+                    stats.skipped.sum(),
+                    stats.avoidedNanos.sum() / 1_000_000,
+                    stats.waited.count(),
+                    String.format("%.0f", stats.waited.totalMillis())
+            );
+        });
+        PerfReports.writeJson("consent-waits.json", report);
+    }
+}
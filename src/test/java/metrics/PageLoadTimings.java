@@ -0,0 +1,144 @@
+package metrics;
+
+import base.DriverFactory;
+import base.DriverSupport;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PageLoadTimings {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageLoadTimings.class);
+
+    private static final Map<WebDriver, Pending> PENDING = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, PageStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        PerfReports.onTestPlanFinished(PageLoadTimings::report);
+    }
+
+    private record Pending(String profile, String page, double timeOrigin, double readyMs) {
+    }
+
+    private static final class PageStats {
+        private final LatencyHistogram ready = new LatencyHistogram();
+        private final LatencyHistogram saved = new LatencyHistogram();
+        private final LongAdder savedLowerBound = new LongAdder();
+        private final LongAdder unknown = new LongAdder();
+    }
+
+    private PageLoadTimings() {
+    }
+
+    public static void recordReady(WebDriver driver, String page) {
+        try {
+            Map<?, ?> timing = timing(driver);
+            double readyMs = number(timing.get("nowMs"));
+            double loadEndMs = number(timing.get("loadEndMs"));
+            String profile = DriverFactory.profileOf(driver).id();
+            PageStats stats = stats(page);
+            stats.ready.recordNanos(millisToNanos(readyMs));
+            BrowserProfileTimings.recordPageReady(profile, page, readyMs);
+
+            if (loadEndMs > 0) {
+                stats.saved.recordNanos(0);
+                BrowserProfileTimings.recordPageFullLoad(profile, page, loadEndMs);
+                logger.info("Page ready: {} readyMs={} (full load already finished)", page, Math.round(readyMs));
+            } else {
+                PENDING.put(DriverSupport.unwrap(driver), new Pending(profile, page, number(timing.get("timeOrigin")), readyMs));
+                logger.info("Page ready: {} readyMs={} (before full load)", page, Math.round(readyMs));
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not record page ready timing (non-fatal).", e);
+        }
+    }
+
+    public static void collectPending(WebDriver driver) {
+        Pending pending = PENDING.remove(DriverSupport.unwrap(driver));
+        if (pending == null) {
+            return;
+        }
+
+        PageStats stats = stats(pending.page());
+        try {
+            Map<?, ?> timing = timing(driver);
+            if (number(timing.get("timeOrigin")) != pending.timeOrigin()) {
+                stats.unknown.increment();
+                return;
+            }
+            double loadEndMs = number(timing.get("loadEndMs"));
+            if (loadEndMs > 0) {
+                stats.saved.recordNanos(millisToNanos(loadEndMs - pending.readyMs()));
+                BrowserProfileTimings.recordPageFullLoad(pending.profile(), pending.page(), loadEndMs);
+            } else {
+                stats.saved.recordNanos(millisToNanos(number(timing.get("nowMs")) - pending.readyMs()));
+                stats.savedLowerBound.increment();
+            }
+        } catch (RuntimeException e) {
+            stats.unknown.increment();
+            logger.debug("Could not collect full-load timing (non-fatal).", e);
+        }
+    }
+
+    private static Map<?, ?> timing(WebDriver driver) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(TIMING_SCRIPT);
+        return raw instanceof Map<?, ?> map ? map : Map.of();
+    }
+
+    private static PageStats stats(String page) {
+        return STATS.computeIfAbsent(page, p -> new PageStats());
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : 0.0;
+    }
+
+    private static long millisToNanos(double millis) {
+        return Math.max(0, Math.round(millis * 1_000_000));
+    }
+
+    private static void report() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> report = new TreeMap<>();
+        STATS.forEach((page, stats) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("readyFromNavigationStart", stats.ready.toMap());
+            entry.put("savedVersusFullLoad", stats.saved.toMap());
+            entry.put("savedLowerBoundSamples", stats.savedLowerBound.sum());
+            entry.put("unknownSamples", stats.unknown.sum());
+            report.put(page, entry);
+
+            logger.info(
+                    "Page load ({}): ready p50Ms={}, saved vs full load totalMs={}, meanMs={} (lowerBound={}, unknown={})",
+                    page,
+                    String.format("%.0f", stats.ready.percentileMillis(50)),
+                    String.format("%.0f", stats.saved.totalMillis()),
+                    String.format("%.0f", stats.saved.meanMillis()),
+                    stats.savedLowerBound.sum(),
+                    stats.unknown.sum()
+            );
+        });
+        PerfReports.writeJson("page-load.json", report);
+    }
+
+    private static final String TIMING_SCRIPT = """
+            var nav = performance.getEntriesByType('navigation')[0];
+            return {
+                timeOrigin: performance.timeOrigin,
+                nowMs: performance.now(),
+                loadEndMs: nav ? nav.loadEventEnd : 0
+            };
+            """;
+}
@@ -0,0 +1,13 @@
+package metrics;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+// Writes every registered perf report when the plan finishes, while logging still works and before forks are torn down.
+public class PerfReportListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        PerfReports.writeAll();
+    }
+}
@@ -0,0 +1,61 @@
+package metrics;
+
+import base.TestConfig;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class PerfReports {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerfReports.class);
+    private static final Json JSON = new Json();
+
+    // Filled by collector static initializers, so only collectors the run touched report.
+    private static final List<Runnable> REPORTS = new CopyOnWriteArrayList<>();
+
+    private PerfReports() {
+    }
+
+    // Runs once the test plan has finished (PerfReportListener), in registration order.
+    public static void onTestPlanFinished(Runnable report) {
+        REPORTS.add(report);
+    }
+
+    static void writeAll() {
+        for (Runnable report : REPORTS) {
+            try {
+                report.run();
+            } catch (RuntimeException e) {
+                logger.warn("Report failed (non-fatal).", e);
+            }
+        }
+    }
+
+    public static Path reportDir() {
+        return Path.of(TestConfig.stringProperty("perf.reportDir", "target/perf"));
+    }
+
+    public static Path writeJson(String fileName, Object report) {
+        return write(fileName, JSON.toJson(report));
+    }
+
+    public static Path write(String fileName, String content) {
+        Path file = reportDir().resolve(fileName);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+            logger.info("Report written: {}", file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            logger.warn("Could not write report {} (non-fatal).", file, e);
+            return null;
+        }
+    }
+}
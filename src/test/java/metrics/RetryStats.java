@@ -0,0 +1,111 @@
+package metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Retries per interaction target (locator), so flaky locators show up as time spent rather than just a warning in the log.
+public final class RetryStats {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryStats.class);
+
+    private static final Map<String, TargetStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        PerfReports.onTestPlanFinished(RetryStats::report);
+    }
+
+    private static final class TargetStats {
+        private final LongAdder interactions = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LatencyHistogram retryTime = new LatencyHistogram();
+        private final Map<String, LongAdder> byException = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> gaveUp = new ConcurrentHashMap<>();
+    }
+
+    private RetryStats() {
+    }
+
+    public static void recordFirstTry(String target) {
+        stats(target).interactions.increment();
+    }
+
+    public static void recordRetry(String target, String exception) {
+        TargetStats stats = stats(target);
+        stats.retries.increment();
+        stats.byException.computeIfAbsent(exception, e -> new LongAdder()).increment();
+    }
+
+    public static void recordRecovered(String target, long retryNanos) {
+        TargetStats stats = stats(target);
+        stats.interactions.increment();
+        stats.retried.increment();
+        stats.retryTime.recordNanos(retryNanos);
+    }
+
+    public static void recordFailed(String target, int retries, long retryNanos, String reason) {
+        TargetStats stats = stats(target);
+        stats.interactions.increment();
+        stats.failed.increment();
+        stats.gaveUp.computeIfAbsent(reason, r -> new LongAdder()).increment();
+        if (retries > 0) {
+            stats.retried.increment();
+            stats.retryTime.recordNanos(retryNanos);
+        }
+    }
+
+    private static TargetStats stats(String target) {
+        return STATS.computeIfAbsent(target, t -> new TargetStats());
+    }
+
+    private static void report() {
+        List<Map.Entry<String, TargetStats>> retried = STATS.entrySet().stream()
+                .filter(entry -> entry.getValue().retries.sum() > 0)
+                .sorted(Comparator.comparingDouble((Map.Entry<String, TargetStats> entry) -> entry.getValue().retryTime.totalMillis()).reversed())
+                .toList();
+        if (retried.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> targets = new LinkedHashMap<>();
+        double totalRetryMillis = 0;
+        for (Map.Entry<String, TargetStats> entry : retried) {
+            TargetStats stats = entry.getValue();
+            Map<String, Object> byException = new TreeMap<>();
+            stats.byException.forEach((exception, count) -> byException.put(exception, count.sum()));
+            Map<String, Object> gaveUp = new TreeMap<>();
+            stats.gaveUp.forEach((reason, count) -> gaveUp.put(reason, count.sum()));
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("interactions", stats.interactions.sum());
+            row.put("retriedInteractions", stats.retried.sum());
+            row.put("retries", stats.retries.sum());
+            row.put("failed", stats.failed.sum());
+            row.put("retriesByException", byException);
+            row.put("gaveUp", gaveUp);
+            row.put("retryTime", stats.retryTime.toMap());
+            targets.put(entry.getKey(), row);
+            totalRetryMillis += stats.retryTime.totalMillis();
+        }
+
+        logger.info(
+                "Retries: {} targets retried, {}ms spent retrying; worst: {}",
+                retried.size(),
+                Math.round(totalRetryMillis),
+                retried.stream().limit(3).map(Map.Entry::getKey).toList()
+        );
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("retryMillis", Math.round(totalRetryMillis));
+        report.put("targets", targets);
+        PerfReports.writeJson("retries.json", report);
+    }
+}
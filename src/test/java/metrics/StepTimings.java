@@ -0,0 +1,266 @@
+package metrics;
+
+import base.TestConfig;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Named, budgeted steps around scenario actions, compared with a stored per-step baseline.
+public final class StepTimings {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepTimings.class);
+    private static final Json JSON = new Json();
+
+    private static final Properties BUDGETS = loadBudgets();
+    private static final Path BASELINE_FILE = Path.of(TestConfig.stringProperty("perf.baselineFile", "perf/step-baseline.json"));
+    private static final Map<String, Double> BASELINE_P50 = loadBaseline();
+    private static final double REGRESSION_RATIO = TestConfig.doubleProperty("perf.regressionThreshold", 1.25);
+    private static final long REGRESSION_MIN_DELTA_MILLIS = TestConfig.intProperty("perf.regressionMinDeltaMillis", 250);
+    private static final boolean FAIL_ON_VIOLATION =
+            "fail".equalsIgnoreCase(TestConfig.stringProperty("perf.steps.onViolation", "warn"));
+
+    private static final Map<String, StepStats> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<List<String>> CURRENT_VIOLATIONS = new ThreadLocal<>();
+
+    static {
+        PerfReports.onTestPlanFinished(StepTimings::report);
+    }
+
+    private static final class StepStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder overBudget = new LongAdder();
+        private final LongAdder regressed = new LongAdder();
+    }
+
+    private StepTimings() {
+    }
+
+    public static <T> T step(String name, Supplier<T> action) {
+        long startNanos = System.nanoTime();
+        T result = action.get();
+        record(name, System.nanoTime() - startNanos);
+        return result;
+    }
+
+    public static void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static void beginTest() {
+        CURRENT_VIOLATIONS.set(new ArrayList<>());
+    }
+
+    // Violations seen on this thread since beginTest(); the caller decides whether they fail the test.
+    public static List<String> endTest() {
+        List<String> violations = CURRENT_VIOLATIONS.get();
+        CURRENT_VIOLATIONS.remove();
+        return violations == null ? List.of() : List.copyOf(violations);
+    }
+
+    public static boolean failOnViolation() {
+        return FAIL_ON_VIOLATION;
+    }
+
+    public static long budgetMillis(String step) {
+        String value = TestConfig.stringProperty("perf.budget." + step, BUDGETS.getProperty(step, "0"));
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Step budget for '" + step + "' is not a millisecond value: '" + value + "'", e);
+        }
+    }
+
+    private static void record(String step, long nanos) {
+        StepStats stats = STATS.computeIfAbsent(step, s -> new StepStats());
+        stats.latency.recordNanos(nanos);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        long budget = budgetMillis(step);
+        Double baseline = BASELINE_P50.get(step);
+        logger.info("Step: {} took {}ms (budgetMs={}, baselineP50Ms={})",
+                step, millis, budget > 0 ? budget : "-", baseline == null ? "-" : Math.round(baseline));
+
+        if (budget > 0 && millis > budget) {
+            stats.overBudget.increment();
+            violation(step + " took " + millis + "ms, over its " + budget + "ms budget");
+        }
+        if (isRegression(millis, baseline)) {
+            stats.regressed.increment();
+            violation(step + " took " + millis + "ms, regressed from baseline p50 " + Math.round(baseline) + "ms");
+        }
+    }
+
+    private static boolean isRegression(double millis, Double baseline) {
+        return baseline != null
+                && millis > baseline * REGRESSION_RATIO
+                && millis - baseline > REGRESSION_MIN_DELTA_MILLIS;
+    }
+
+    private static void violation(String message) {
+        logger.warn("Step latency violation: {}", message);
+        List<String> violations = CURRENT_VIOLATIONS.get();
+        if (violations != null) {
+            violations.add(message);
+        }
+    }
+
+    private static void report() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> steps = new TreeMap<>();
+        STATS.forEach((step, stats) -> {
+            double p50 = stats.latency.percentileMillis(50);
+            Double baseline = BASELINE_P50.get(step);
+            long budget = budgetMillis(step);
+
+            Map<String, Object> entry = new LinkedHashMap<>(stats.latency.toMap());
+            entry.put("budgetMs", budget > 0 ? budget : null);
+            entry.put("overBudget", stats.overBudget.sum());
+            entry.put("regressedSamples", stats.regressed.sum());
+            entry.put("baselineP50Ms", baseline);
+            entry.put("deltaPct", baseline == null || baseline == 0 ? null : Math.round((p50 / baseline - 1) * 1000) / 10.0);
+            entry.put("status", status(stats, p50, baseline));
+            steps.put(step, entry);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("baselineFile", BASELINE_FILE.toString());
+        report.put("regressionThreshold", REGRESSION_RATIO);
+        report.put("regressionMinDeltaMs", REGRESSION_MIN_DELTA_MILLIS);
+        report.put("steps", steps);
+        PerfReports.writeJson("steps.json", report);
+        PerfReports.write("steps.html", html(steps));
+
+        if (TestConfig.booleanProperty("perf.updateBaseline", false)) {
+            writeBaseline();
+        }
+    }
+
+    private static String status(StepStats stats, double p50, Double baseline) {
+        if (isRegression(p50, baseline)) {
+            return "REGRESSED";
+        }
+        if (stats.overBudget.sum() > 0) {
+            return "OVER_BUDGET";
+        }
+        return baseline == null ? "NO_BASELINE" : "OK";
+    }
+
+    private static void writeBaseline() {
+        Map<String, Object> steps = new TreeMap<>();
+        STATS.forEach((step, stats) -> steps.put(step, Map.of(
+                "p50Ms", stats.latency.percentileMillis(50),
+                "p90Ms", stats.latency.percentileMillis(90),
+                "count", stats.latency.count()
+        )));
+        try {
+            if (BASELINE_FILE.getParent() != null) {
+                Files.createDirectories(BASELINE_FILE.getParent());
+            }
+            Files.writeString(BASELINE_FILE, JSON.toJson(Map.of("recordedAt", Instant.now().toString(), "steps", steps)),
+                    StandardCharsets.UTF_8);
+            logger.info("Step baseline updated: {}", BASELINE_FILE.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write step baseline {} (non-fatal).", BASELINE_FILE, e);
+        }
+    }
+
+    private static String html(Map<String, Object> steps) {
+        StringBuilder html = new StringBuilder("""
+                <!doctype html>
+                <html lang="en">
+                <head>
+                <meta charset="utf-8">
+                <title>Step timings</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                tr.REGRESSED td { background: #f8d7da; }
+                tr.OVER_BUDGET td { background: #fff3cd; }
+                tr.OK td { background: #d4edda; }
+                </style>
+                </head>
+                <body>
+                <h1>Step timings</h1>
+                """);
+        html.append("<p>Baseline: ").append(escape(BASELINE_FILE.toString()))
+                .append(BASELINE_P50.isEmpty() ? " (none recorded; run with -Dperf.updateBaseline=true)" : "")
+                .append("</p>\n<table>\n<tr><th>Step</th><th>Count</th><th>p50 ms</th><th>p90 ms</th><th>Max ms</th>")
+                .append("<th>Budget ms</th><th>Over budget</th><th>Baseline p50 ms</th><th>Delta %</th><th>Status</th></tr>\n");
+        steps.forEach((step, value) -> {
+            Map<?, ?> entry = (Map<?, ?>) value;
+            String status = String.valueOf(entry.get("status"));
+            html.append("<tr class=\"").append(status).append("\"><td>").append(escape(step)).append("</td>");
+            for (String key : List.of("count", "p50Ms", "p90Ms", "maxMs", "budgetMs", "overBudget", "baselineP50Ms", "deltaPct")) {
+                Object cell = entry.get(key);
+                html.append("<td>").append(cell == null ? "-" : escape(String.valueOf(cell))).append("</td>");
+            }
+            html.append("<td>").append(status).append("</td></tr>\n");
+        });
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static Properties loadBudgets() {
+        Properties budgets = new Properties();
+        try (InputStream in = StepTimings.class.getResourceAsStream("/perf/step-budgets.properties")) {
+            if (in != null) {
+                budgets.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read step budgets", e);
+        }
+        return budgets;
+    }
+
+    private static Map<String, Double> loadBaseline() {
+        if (!Files.isRegularFile(BASELINE_FILE)) {
+            return Map.of();
+        }
+        try {
+            Map<String, Object> raw = JSON.toType(Files.readString(BASELINE_FILE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            Map<String, Double> baseline = new LinkedHashMap<>();
+            if (raw.get("steps") instanceof Map<?, ?> steps) {
+                steps.forEach((step, value) -> {
+                    if (value instanceof Map<?, ?> entry && entry.get("p50Ms") instanceof Number p50) {
+                        baseline.put(String.valueOf(step), p50.doubleValue());
+                    }
+                });
+            }
+            logger.info("Loaded step baseline for {} steps from {}", baseline.size(), BASELINE_FILE);
+            return baseline;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read step baseline {} (ignored).", BASELINE_FILE, e);
+            return Map.of();
+        }
+    }
+}
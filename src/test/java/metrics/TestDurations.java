@@ -0,0 +1,197 @@
+package metrics;
+
+import base.ShardFilter;
+import base.TestConfig;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Wall time per top-level test class, merged into a durations file that ShardFilter plans the next run from.
+public class TestDurations implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDurations.class);
+    private static final Json JSON = new Json();
+
+    private static final Path FILE = Path.of(TestConfig.stringProperty("shard.durationsFile", "target/test-durations.json"));
+    private static final boolean RECORD = TestConfig.booleanProperty("shard.recordDurations", true);
+    // Weight of the latest run when merging into the stored duration, so one slow run does not reshuffle every shard.
+    private static final double LATEST_WEIGHT = 0.5;
+
+    private final Map<String, Long> startNanos = new ConcurrentHashMap<>();
+    private final Map<String, Long> actualMillis = new ConcurrentHashMap<>();
+    private volatile TestPlan testPlan;
+
+    // Main file plus the per-shard files next to it; the most recently recorded value of a class wins.
+    public static Map<String, Long> history() {
+        Map<Instant, Map<String, Long>> byRecordedAt = new TreeMap<>();
+        Path dir = FILE.toAbsolutePath().getParent();
+        List<Path> files = new ArrayList<>(List.of(FILE));
+        if (dir != null && Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> shards = Files.newDirectoryStream(dir, stem() + ".shard-*.json")) {
+                shards.forEach(files::add);
+            } catch (IOException e) {
+                logger.warn("Could not list shard durations in {} (non-fatal).", dir, e);
+            }
+        }
+        files.stream().filter(Files::isRegularFile).forEach(file -> read(file, byRecordedAt));
+        Map<String, Long> durations = new TreeMap<>();
+        byRecordedAt.values().forEach(durations::putAll);
+        return durations;
+    }
+
+    private static void read(Path file, Map<Instant, Map<String, Long>> byRecordedAt) {
+        try {
+            Map<String, Object> raw = JSON.toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            Map<String, Long> durations = new TreeMap<>();
+            if (raw.get("classes") instanceof Map<?, ?> classes) {
+                classes.forEach((testClass, value) -> {
+                    if (value instanceof Map<?, ?> entry && entry.get("millis") instanceof Number millis) {
+                        durations.put(String.valueOf(testClass), millis.longValue());
+                    }
+                });
+            }
+            Instant recordedAt = raw.get("recordedAt") == null ? Instant.EPOCH : Instant.parse(String.valueOf(raw.get("recordedAt")));
+            byRecordedAt.merge(recordedAt, durations, (left, right) -> {
+                left.putAll(right);
+                return left;
+            });
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read test durations {}; planning without it.", file, e);
+        }
+    }
+
+    private static String stem() {
+        String name = FILE.getFileName().toString();
+        return name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+    }
+
+    public static Path file() {
+        return FILE;
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        this.testPlan = testPlan;
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        topLevelClass(identifier).ifPresent(testClass -> startNanos.put(testClass, System.nanoTime()));
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        topLevelClass(identifier).ifPresent(testClass -> {
+            Long start = startNanos.remove(testClass);
+            if (start != null) {
+                actualMillis.put(testClass, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (actualMillis.isEmpty()) {
+            return;
+        }
+        ShardFilter.Plan plan = ShardFilter.plan();
+        report(plan);
+        if (RECORD) {
+            // A shard only rewrites its own file, so shards sharing a directory do not race on the main file.
+            merge(plan == null || plan.total() == 1 ? FILE : FILE.resolveSibling(stem() + ".shard-" + plan.index() + ".json"));
+        }
+    }
+
+    private Optional<String> topLevelClass(TestIdentifier identifier) {
+        TestPlan plan = testPlan;
+        if (plan == null || !(identifier.getSource().orElse(null) instanceof ClassSource source)) {
+            return Optional.empty();
+        }
+        // Top level: the parent is the engine, which has no parent itself.
+        boolean topLevel = identifier.getParentIdObject()
+                .map(parent -> plan.getTestIdentifier(parent).getParentIdObject().isEmpty())
+                .orElse(false);
+        return topLevel ? Optional.of(source.getClassName()) : Optional.empty();
+    }
+
+    private void report(ShardFilter.Plan plan) {
+        Map<String, Object> classes = new TreeMap<>();
+        long predictedTotal = 0;
+        long actualTotal = 0;
+        for (Map.Entry<String, Long> entry : actualMillis.entrySet()) {
+            Long predicted = plan == null ? null : plan.predictedMillis().get(entry.getKey());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("predictedMillis", predicted);
+            row.put("actualMillis", entry.getValue());
+            classes.put(entry.getKey(), row);
+            predictedTotal += predicted == null ? 0 : predicted;
+            actualTotal += entry.getValue();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationsFile", FILE.toString());
+        if (plan != null) {
+            report.put("shardIndex", plan.index());
+            report.put("shardTotal", plan.total());
+            report.put("assignments", plan.toMap());
+        }
+        report.put("predictedMillis", predictedTotal);
+        report.put("actualMillis", actualTotal);
+        report.put("classes", classes);
+        logger.info(
+                "Shard {}/{}: {} classes, predicted {}ms, actual {}ms",
+                plan == null ? 0 : plan.index(),
+                plan == null ? 1 : plan.total(),
+                actualMillis.size(),
+                predictedTotal,
+                actualTotal
+        );
+        PerfReports.writeJson(plan == null || plan.total() == 1 ? "shards.json" : "shards-" + plan.index() + ".json", report);
+    }
+
+    private void merge(Path target) {
+        Map<String, Long> previous = history();
+        Map<String, Object> classes = new TreeMap<>();
+        if (target.equals(FILE)) {
+            previous.forEach((testClass, millis) -> classes.put(testClass, Map.of("millis", millis)));
+        }
+        actualMillis.forEach((testClass, millis) -> {
+            Long before = previous.get(testClass);
+            long merged = before == null ? millis : Math.round(before * (1 - LATEST_WEIGHT) + millis * LATEST_WEIGHT);
+            classes.put(testClass, Map.of("millis", merged, "lastMillis", millis));
+        });
+        try {
+            Path dir = target.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            // Write then rename, so a shard planning at the same moment never reads a half-written file.
+            Path temp = Files.createTempFile(dir, stem(), ".tmp");
+            Files.writeString(temp, JSON.toJson(Map.of("recordedAt", Instant.now().toString(), "classes", classes)),
+                    StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Test durations updated for {} classes: {}", actualMillis.size(), target.toAbsolutePath());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not write test durations {} (non-fatal).", target, e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package metrics;
+
+import base.AdaptiveWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Time-to-satisfy and poll round trips per waiting page-object method, with the fixed 200 ms polling cost for comparison.
+public final class WaitTimings {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitTimings.class);
+
+    private static final long FIXED_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final Map<String, WaitStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        PerfReports.onTestPlanFinished(WaitTimings::report);
+    }
+
+    public enum Outcome {
+        SATISFIED, TIMED_OUT, FAILED
+    }
+
+    private static final class WaitStats {
+        private final LatencyHistogram satisfied = new LatencyHistogram();
+        private final LongAdder timedOut = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder satisfiedPolls = new LongAdder();
+        private final LongAdder fixedPolls = new LongAdder();
+        private final LongAdder fixedNanos = new LongAdder();
+        private final LongAdder inPage = new LongAdder();
+        private final LongAdder eventDriven = new LongAdder();
+    }
+
+    private WaitTimings() {
+    }
+
+    public static void record(Outcome outcome, long nanos, int polls) {
+        record(stats(), outcome, nanos, polls);
+    }
+
+    // In-page waits cost a single round trip however many times the predicate ran in the browser.
+    public static void recordInPage(Outcome outcome, long nanos) {
+        WaitStats stats = stats();
+        stats.inPage.increment();
+        record(stats, outcome, nanos, 1);
+    }
+
+    // Waits answered by a pushed browser event, without any polling round trip.
+    public static void recordEvent(Outcome outcome, long nanos) {
+        WaitStats stats = stats();
+        stats.eventDriven.increment();
+        record(stats, outcome, nanos, 0);
+    }
+
+    private static WaitStats stats() {
+        return STATS.computeIfAbsent(CommandTimings.caller(), c -> new WaitStats());
+    }
+
+    private static void record(WaitStats stats, Outcome outcome, long nanos, int polls) {
+        stats.polls.add(polls);
+        switch (outcome) {
+            case SATISFIED -> {
+                stats.satisfied.recordNanos(nanos);
+                stats.satisfiedPolls.add(polls);
+                // A fixed-interval poller only notices the condition at the next 200 ms boundary.
+                long fixedPolls = (nanos + FIXED_POLL_NANOS - 1) / FIXED_POLL_NANOS;
+                stats.fixedPolls.add(fixedPolls + 1);
+                stats.fixedNanos.add(fixedPolls * FIXED_POLL_NANOS);
+            }
+            case TIMED_OUT -> stats.timedOut.increment();
+            case FAILED -> stats.failed.increment();
+        }
+    }
+
+    private static void report() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> report = new TreeMap<>();
+        long[] totals = new long[4];
+        STATS.forEach((caller, stats) -> {
+            long satisfiedCount = stats.satisfied.count();
+            long fixedMillis = TimeUnit.NANOSECONDS.toMillis(stats.fixedNanos.sum());
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("timeToSatisfy", stats.satisfied.toMap());
+            entry.put("timedOut", stats.timedOut.sum());
+            entry.put("failed", stats.failed.sum());
+            entry.put("inPage", stats.inPage.sum());
+            entry.put("eventDriven", stats.eventDriven.sum());
+            entry.put("polls", stats.polls.sum());
+            entry.put("meanPollsToSatisfy", satisfiedCount == 0 ? null : round((double) stats.satisfiedPolls.sum() / satisfiedCount));
+            entry.put("fixedPollEstimate", Map.of(
+                    "polls", stats.fixedPolls.sum(),
+                    "totalMs", fixedMillis
+            ));
+            report.put(caller, entry);
+
+            totals[0] += Math.round(stats.satisfied.totalMillis());
+            totals[1] += fixedMillis;
+            totals[2] += stats.satisfiedPolls.sum();
+            totals[3] += stats.fixedPolls.sum();
+        });
+
+        logger.info(
+                "Waits: satisfied in {}ms with {} polls (fixed 200ms polling estimate: {}ms, {} polls)",
+                totals[0], totals[2], totals[1], totals[3]
+        );
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("adaptive", AdaptiveWait.adaptive());
+        out.put("summary", Map.of(
+                "satisfiedMs", totals[0],
+                "satisfiedPolls", totals[2],
+                "fixedPollEstimateMs", totals[1],
+                "fixedPollEstimatePolls", totals[3]
+        ));
+        out.put("byCaller", report);
+        PerfReports.writeJson("waits.json", out);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
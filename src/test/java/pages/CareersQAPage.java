@@ -1,31 +1,37 @@
 package pages;
 
 import base.BasePage;
+import base.SiteConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
 
 public class CareersQAPage extends BasePage {
 
-    private static final String URL = "https://insiderone.com/careers/quality-assurance/";
+    private static final String PATH = "/careers/quality-assurance/";
 
     public CareersQAPage(WebDriver driver) {
         super(driver);
     }
 
     public CareersQAPage open() {
-        logger.info("Open Careers QA page: {}", URL);
-        driver.get(URL);
-        waitForDocumentReady(Duration.ofSeconds(20));
+        String url = SiteConfig.siteUrl(PATH);
+        logger.info("Open Careers QA page: {}", url);
+        open(url);
         return this;
     }
 
+    @Override
+    protected ExpectedCondition<?> readiness() {
+        return ExpectedConditions.visibilityOfElementLocated(careersQA_seeAllQAJobsButton);
+    }
+
     public boolean careersQA_isAt() {
         String url = driver.getCurrentUrl();
         boolean ok = url != null && url.contains("/careers/quality-assurance/");
@@ -60,28 +66,27 @@ public class CareersQAPage extends BasePage {
 
     public QAJobsPage careersQA_clickSeeAllQAJobsButton() {
         String expectedHref = findSeeAllQAJobsHref();
-        WebDriverWait cookieWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+        acceptCookieBanner(Duration.ofSeconds(5));
+
+        safeClick(careersQA_seeAllQAJobsButton);
         try {
-            cookieWait.until(ExpectedConditions.elementToBeClickable(cookieAcceptBtn)).click();
-            logger.info("Cookie popup detected and accepted before clicking See All QA Jobs.");
+            shortWait(Duration.ofSeconds(10)).until(ExpectedConditions.urlContains("/careers/open-positions/"));
         } catch (TimeoutException e) {
-            logger.info("No cookie popup detected within 5 seconds. Continuing.");
-        } catch (RuntimeException e) {
-            logger.warn("Cookie popup handling failed (non-fatal). Continuing.", e);
+            logger.warn("URL did not change to open positions after clicking See All QA Jobs (currentUrl='{}')", driver.getCurrentUrl());
         }
-
-        safeClick(careersQA_seeAllQAJobsButton);
-        waitForDocumentReady(Duration.ofSeconds(20));
+        waitForNavigation(Duration.ofSeconds(20));
 
         if (expectedHref != null) {
             String url = driver.getCurrentUrl();
             if (url == null || !url.contains("department=qualityassurance")) {
                 logger.info("Re-navigate using See All QA Jobs href to ensure department filter (href='{}')", expectedHref);
                 driver.get(expectedHref);
-                waitForDocumentReady(Duration.ofSeconds(20));
+                waitForNavigation(Duration.ofSeconds(20));
             }
         }
-        return new QAJobsPage(driver);
+        QAJobsPage jobs = new QAJobsPage(driver);
+        jobs.awaitReady();
+        return jobs;
     }
 
     private String findSeeAllQAJobsHref() {
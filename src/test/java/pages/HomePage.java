@@ -1,173 +1,155 @@
 package pages;
 
 import base.BasePage;
+import base.SiteConfig;
+import base.Text;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.util.List;
+import java.util.Map;
 
 public class HomePage extends BasePage {
 
-    private static final String URL = "https://insiderone.com/";
+    private static final String PATH = "/";
     private static final Logger logger = LoggerFactory.getLogger(HomePage.class);
 
-    public HomePage(WebDriver driver) {
-        super(driver);
-    }
-
-    public HomePage open() {
-        open(URL);
-        return this;
-    }
+    private static final String NAVBAR_ID = "navigation";
+    private static final String NAVBAR_LOGO_CSS = "#navigation .header-logo a";
+    private static final String NAVBAR_GET_DEMO_XPATH = "//header[@id='navigation']//a[contains(normalize-space(.),'Get a demo')]";
+    private static final String EMAIL_INPUT_ID = "email";
+    private static final String HERO_GET_DEMO_CSS = "section.homepage-hero form .redirect-button";
 
-    public boolean isNavbarVisible() {
-        List<WebElement> elements = driver.findElements(navBar);
-        boolean exists = !elements.isEmpty();
-        boolean visible = exists && isDisplayedSafe(elements.getFirst());
+    public record BlockState(boolean present, boolean visible, boolean enabled, String href, String text) {
 
-        if (visible) {
-            logger.info("isNavbarVisible ok (locator={})", navBar);
-        } else {
-            logger.error("isNavbarVisible failed (exists={}, visible={}) (locator={})", exists, visible, navBar);
+        public boolean clickable() {
+            return visible && enabled;
         }
-        return visible;
     }
 
-    public boolean isLogoValid() {
-        List<WebElement> elements = driver.findElements(navBarLogo);
-        boolean exists = !elements.isEmpty();
-        boolean visible = false;
-        String href = null;
-        boolean hrefContains = false;
-
-        if (exists) {
-            WebElement el = elements.getFirst();
-            visible = isDisplayedSafe(el);
-            href = getAttributeSafe(el, "href");
-            hrefContains = href != null && href.contains("insiderone.com");
-        }
-
-        boolean ok = exists && visible && hrefContains;
-        if (ok) {
-            logger.info("isLogoValid ok (href='{}', hrefContains={}) (locator={})", href, hrefContains, navBarLogo);
-        } else {
-            logger.error(
-                    "isLogoValid failed (exists={}, visible={}, href='{}', hrefContains={}) (locator={})",
-                    exists,
-                    visible,
-                    href,
-                    hrefContains,
-                    navBarLogo
-            );
-        }
-        return ok;
+    public record Snapshot(
+            boolean ready,
+            String url,
+            BlockState navbar,
+            BlockState logo,
+            BlockState navbarGetDemo,
+            BlockState emailInput,
+            BlockState heroGetDemo
+    ) {
     }
 
-    public boolean isNavbarGetDemoClickable() {
-        boolean exists = !driver.findElements(navBarGetDemo).isEmpty();
-        boolean clickable = exists && isClickable(navBarGetDemo, Duration.ofSeconds(10));
-
-        if (clickable) {
-            logger.info("isNavbarGetDemoClickable ok (locator={})", navBarGetDemo);
-        } else {
-            logger.error(
-                    "isNavbarGetDemoClickable failed (exists={}, clickable={}) (locator={})",
-                    exists,
-                    clickable,
-                    navBarGetDemo
-            );
-        }
-        return clickable;
+    public HomePage(WebDriver driver) {
+        super(driver);
     }
 
-    public boolean isEmailInputVisible() {
-        List<WebElement> elements = driver.findElements(homePageEmailInput);
-        boolean exists = !elements.isEmpty();
-        boolean visible = false;
-        boolean enabled = false;
-
-        if (exists) {
-            WebElement el = elements.getFirst();
-            visible = isDisplayedSafe(el);
-            enabled = isEnabledSafe(el);
-        }
+    public HomePage open() {
+        open(SiteConfig.siteUrl(PATH));
+        return this;
+    }
 
-        boolean ok = visible && enabled;
-        if (ok) {
-            logger.info("isEmailInputVisible ok (visible={}, enabled={}) (locator={})", visible, enabled, homePageEmailInput);
-        } else {
-            logger.error(
-                    "isEmailInputVisible failed (exists={}, visible={}, enabled={}) (locator={})",
-                    exists,
-                    visible,
-                    enabled,
-                    homePageEmailInput
-            );
-        }
-        return ok;
+    @Override
+    protected ExpectedCondition<?> readiness() {
+        return ExpectedConditions.visibilityOfElementLocated(navBar);
     }
 
-    public boolean isHeroGetDemoClickable() {
-        boolean exists = !driver.findElements(homePageGetDemo).isEmpty();
-        boolean clickable = exists && isClickable(homePageGetDemo, Duration.ofSeconds(10));
-
-        if (clickable) {
-            logger.info("isHeroGetDemoClickable ok (locator={})", homePageGetDemo);
-        } else {
-            logger.error(
-                    "isHeroGetDemoClickable failed (exists={}, clickable={}) (locator={})",
-                    exists,
-                    clickable,
-                    homePageGetDemo
-            );
-        }
-        return clickable;
+    public Snapshot snapshot() {
+        return snapshot(Duration.ofSeconds(10));
     }
 
-    private boolean isClickable(By locator, Duration timeout) {
+    public Snapshot snapshot(Duration readinessTimeout) {
+        Map<?, ?> raw;
         try {
-            waitForClickable(locator, timeout);
-            return true;
+            raw = fluentWait(readinessTimeout).until(d -> {
+                Map<?, ?> state = readSnapshotState();
+                return Boolean.TRUE.equals(state.get("ready")) ? state : null;
+            });
         } catch (TimeoutException e) {
-            return false;
-        } catch (RuntimeException e) {
-            return false;
+            logger.warn("Home page main blocks not ready within {}s; taking snapshot anyway.", readinessTimeout.getSeconds());
+            raw = readSnapshotState();
         }
-    }
 
-    private static boolean isDisplayedSafe(WebElement el) {
-        try {
-            return el.isDisplayed();
-        } catch (RuntimeException e) {
-            return false;
-        }
+        Snapshot snapshot = new Snapshot(
+                Boolean.TRUE.equals(raw.get("ready")),
+                String.valueOf(raw.get("url")),
+                blockState(raw.get("navbar")),
+                blockState(raw.get("logo")),
+                blockState(raw.get("navbarGetDemo")),
+                blockState(raw.get("emailInput")),
+                blockState(raw.get("heroGetDemo"))
+        );
+        logger.info("Home page snapshot: {}", snapshot);
+        return snapshot;
     }
 
-    private static boolean isEnabledSafe(WebElement el) {
-        try {
-            return el.isEnabled();
-        } catch (RuntimeException e) {
-            return false;
-        }
+    private Map<?, ?> readSnapshotState() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(
+                SNAPSHOT_SCRIPT,
+                NAVBAR_ID,
+                NAVBAR_LOGO_CSS,
+                NAVBAR_GET_DEMO_XPATH,
+                EMAIL_INPUT_ID,
+                HERO_GET_DEMO_CSS
+        );
+        return raw instanceof Map<?, ?> map ? map : Map.of();
     }
 
-    private static String getAttributeSafe(WebElement el, String name) {
-        try {
-            return el.getAttribute(name);
-        } catch (RuntimeException e) {
-            return null;
-        }
+    private static BlockState blockState(Object raw) {
+        Map<?, ?> map = raw instanceof Map<?, ?> m ? m : Map.of();
+        Object href = map.get("href");
+        Object text = map.get("text");
+        return new BlockState(
+                Boolean.TRUE.equals(map.get("present")),
+                Boolean.TRUE.equals(map.get("visible")),
+                Boolean.TRUE.equals(map.get("enabled")),
+                href == null ? null : String.valueOf(href),
+                text == null ? "" : Text.normalizeWhitespace(String.valueOf(text))
+        );
     }
 
-    private static final By navBar = By.id("navigation");
-    private static final By navBarLogo = By.cssSelector("#navigation .header-logo a");
-    private static final By navBarGetDemo =
-            By.xpath("//header[@id='navigation']//a[contains(normalize-space(.),'Get a demo')]");
-    private static final By homePageEmailInput = By.id("email");
-    private static final By homePageGetDemo = By.cssSelector("section.homepage-hero form .redirect-button");
+    private static final By navBar = By.id(NAVBAR_ID);
+
+    private static final String SNAPSHOT_SCRIPT = """
+            var visible = function (el) {
+                if (!el || !el.isConnected) {
+                    return false;
+                }
+                var style = window.getComputedStyle(el);
+                return style.display !== 'none' && style.visibility !== 'hidden'
+                    && parseFloat(style.opacity || '1') > 0 && el.getClientRects().length > 0;
+            };
+            var block = function (el) {
+                if (!el) {
+                    return { present: false, visible: false, enabled: false, href: null, text: '' };
+                }
+                return {
+                    present: true,
+                    visible: visible(el),
+                    enabled: !el.disabled,
+                    href: el.href || el.getAttribute('href'),
+                    text: (el.innerText || el.value || '').substring(0, 200)
+                };
+            };
+            var byXpath = function (xpath) {
+                return document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            };
+            var state = {
+                url: window.location.href,
+                navbar: block(document.getElementById(arguments[0])),
+                logo: block(document.querySelector(arguments[1])),
+                navbarGetDemo: block(byXpath(arguments[2])),
+                emailInput: block(document.getElementById(arguments[3])),
+                heroGetDemo: block(document.querySelector(arguments[4]))
+            };
+            // Every block the scenario asserts, so a late logo or hero button is waited for rather than failed.
+            state.ready = state.navbar.visible && state.logo.visible && state.emailInput.visible
+                && state.navbarGetDemo.visible && state.navbarGetDemo.enabled
+                && state.heroGetDemo.visible && state.heroGetDemo.enabled;
+            return state;
+            """;
 }
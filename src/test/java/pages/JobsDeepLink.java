@@ -0,0 +1,182 @@
+package pages;
+
+import base.SiteConfig;
+import base.TestConfig;
+import base.Text;
+import metrics.LatencyHistogram;
+import metrics.PerfReports;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Opens the open positions list already filtered through URL parameters, once that is shown to match the dropdown path.
+public final class JobsDeepLink {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobsDeepLink.class);
+
+    public enum Mode {
+        AUTO,
+        ALWAYS,
+        OFF
+    }
+
+    public record Filter(String department, String location) {
+
+        public String query() {
+            return "department=" + Text.slug(department) + "&location=" + Text.slug(location);
+        }
+
+        public boolean matches(Filter other) {
+            return Text.slug(department).equals(Text.slug(other.department()))
+                    && Text.slug(location).equals(Text.slug(other.location()));
+        }
+
+        @Override
+        public String toString() {
+            return department + " / " + location;
+        }
+    }
+
+    private static final Mode MODE = parse(TestConfig.stringProperty("jobs.deepLink", "auto"));
+
+    // Verdict per site base URL: the parameter scheme is site-wide, so one matching filter is enough.
+    private static final Map<String, Boolean> VERIFIED = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> TIMINGS = new ConcurrentHashMap<>();
+    private static final Map<String, Object> VERIFICATIONS = new ConcurrentHashMap<>();
+
+    static {
+        PerfReports.onTestPlanFinished(JobsDeepLink::report);
+    }
+
+    private JobsDeepLink() {
+    }
+
+    public static QAJobsPage open(WebDriver driver, Filter filter) {
+        String site = SiteConfig.siteBaseUrl();
+        Boolean verified = VERIFIED.get(site);
+        if (MODE == Mode.OFF || Boolean.FALSE.equals(verified)) {
+            return openViaDropdowns(driver, filter);
+        }
+        if (MODE == Mode.ALWAYS || Boolean.TRUE.equals(verified)) {
+            QAJobsPage page = openDeepLink(driver, filter);
+            return page != null ? page : openViaDropdowns(driver, filter);
+        }
+        return verify(driver, filter, site);
+    }
+
+    private static QAJobsPage verify(WebDriver driver, Filter filter, String site) {
+        long uiStart = System.nanoTime();
+        QAJobsPage viaDropdowns = openViaDropdowns(driver, filter);
+        Set<String> expected = hrefs(viaDropdowns);
+        long uiNanos = System.nanoTime() - uiStart;
+
+        long deepStart = System.nanoTime();
+        QAJobsPage viaLink = openDeepLink(driver, filter);
+        Set<String> actual = viaLink == null ? Set.of() : hrefs(viaLink);
+        long deepNanos = System.nanoTime() - deepStart;
+
+        boolean matches = viaLink != null && !expected.isEmpty() && expected.equals(actual);
+        Map<String, Object> verification = new LinkedHashMap<>();
+        verification.put("filter", filter.toString());
+        verification.put("matches", matches);
+        verification.put("dropdownJobs", expected.size());
+        verification.put("deepLinkJobs", actual.size());
+        verification.put("dropdownMillis", TimeUnit.NANOSECONDS.toMillis(uiNanos));
+        verification.put("deepLinkMillis", TimeUnit.NANOSECONDS.toMillis(deepNanos));
+        VERIFICATIONS.put(site, verification);
+
+        if (expected.isEmpty()) {
+            logger.warn("Deep link check inconclusive for {} (no jobs via dropdowns); will check again.", filter);
+            return viaLink != null ? viaLink : openViaDropdowns(driver, filter);
+        }
+        VERIFIED.put(site, matches);
+        if (matches) {
+            logger.info(
+                    "Deep link verified for {} on {} ({} jobs): dropdowns {}ms, deep link {}ms",
+                    filter, site, expected.size(), TimeUnit.NANOSECONDS.toMillis(uiNanos), TimeUnit.NANOSECONDS.toMillis(deepNanos)
+            );
+            return viaLink;
+        }
+        logger.warn(
+                "Deep link does not match the dropdown path for {} on {}; using dropdowns from now on. missing={}, unexpected={}",
+                filter, site, difference(expected, actual), difference(actual, expected)
+        );
+        return openViaDropdowns(driver, filter);
+    }
+
+    private static QAJobsPage openViaDropdowns(WebDriver driver, Filter filter) {
+        long startNanos = System.nanoTime();
+        QAJobsPage page = new QAJobsPage(driver).open();
+        page.qaJobs_selectDepartment(filter.department());
+        page.qaJobs_selectLocation(filter.location());
+        record("dropdowns", System.nanoTime() - startNanos);
+        return page;
+    }
+
+    // Null when the page ignored the parameters (dropdowns not preselected).
+    private static QAJobsPage openDeepLink(WebDriver driver, Filter filter) {
+        long startNanos = System.nanoTime();
+        QAJobsPage page;
+        try {
+            page = new QAJobsPage(driver).open(filter);
+        } catch (RuntimeException e) {
+            logger.warn("Deep link navigation failed for {}.", filter, e);
+            return null;
+        }
+        Filter selected = page.qaJobs_selectedFilter();
+        if (!filter.matches(selected)) {
+            logger.warn("Deep link for {} landed with dropdowns at {}.", filter, selected);
+            return null;
+        }
+        record("deepLink", System.nanoTime() - startNanos);
+        return page;
+    }
+
+    private static Set<String> hrefs(QAJobsPage page) {
+        return page.qaJobs_readJobCards(QAJobsPage.CardExtraction.BATCHED).stream()
+                .map(QAJobsPage.JobPreview::href)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static List<String> difference(Set<String> left, Set<String> right) {
+        return left.stream().filter(href -> !right.contains(href)).limit(5).toList();
+    }
+
+    private static void record(String path, long nanos) {
+        TIMINGS.computeIfAbsent(path, p -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    private static void report() {
+        if (TIMINGS.isEmpty()) {
+            return;
+        }
+        Map<String, Object> timings = new TreeMap<>();
+        TIMINGS.forEach((path, histogram) -> timings.put(path, histogram.toMap()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", MODE.name().toLowerCase(Locale.ROOT));
+        report.put("verified", new TreeMap<>(VERIFIED));
+        report.put("verifications", new TreeMap<>(VERIFICATIONS));
+        report.put("navigation", timings);
+        PerfReports.writeJson("jobs-navigation.json", report);
+    }
+
+    private static Mode parse(String value) {
+        try {
+            return Mode.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("System property 'jobs.deepLink' must be auto, always or off: '" + value + "'", e);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package pages;
 
 import base.BasePage;
+import base.SiteConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 public class LeverJobPage extends BasePage {
 
@@ -10,9 +13,14 @@ public class LeverJobPage extends BasePage {
         super(driver);
     }
 
+    @Override
+    protected ExpectedCondition<?> readiness() {
+        return ExpectedConditions.visibilityOfElementLocated(lever_headline);
+    }
+
     public boolean lever_isAt() {
         String url = driver.getCurrentUrl();
-        boolean ok = url != null && url.contains("jobs.lever.co");
+        boolean ok = SiteConfig.isLeverUrl(url);
         if (!ok) {
             logger.warn("lever_isAt failed (currentUrl='{}')", url);
         }
@@ -31,6 +39,7 @@ public class LeverJobPage extends BasePage {
         return getText(lever_department);
     }
 
+    private final By lever_headline = By.cssSelector(".posting-headline");
     private final By lever_title = By.cssSelector(".posting-headline h2");
     private final By lever_location = By.cssSelector(".posting-categories .location");
     private final By lever_department = By.cssSelector(".posting-categories .department");
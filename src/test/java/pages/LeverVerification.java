@@ -0,0 +1,47 @@
+package pages;
+
+import base.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+// How the selected Lever posting is verified: in the browser tab, over HTTP (lever.LeverPostingClient), or both.
+public enum LeverVerification {
+
+    BROWSER,
+    HTTP,
+    BOTH;
+
+    private static final Logger logger = LoggerFactory.getLogger(LeverVerification.class);
+
+    private static final LeverVerification CONFIGURED = parse(TestConfig.stringProperty("lever.verify", "browser"));
+    private static final double BROWSER_SAMPLE_RATE = TestConfig.doubleProperty("lever.verify.browserSampleRate", 0.1);
+
+    public static LeverVerification configured() {
+        return CONFIGURED;
+    }
+
+    public boolean usesHttp() {
+        return this != BROWSER;
+    }
+
+    // In HTTP mode the browser path still runs on a sampled fraction of runs.
+    public boolean sampleBrowserPath() {
+        if (this != HTTP) {
+            return true;
+        }
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < BROWSER_SAMPLE_RATE;
+        logger.info("Lever browser verification sampled={} (rate={})", sampled, BROWSER_SAMPLE_RATE);
+        return sampled;
+    }
+
+    private static LeverVerification parse(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("System property 'lever.verify' must be browser, http or both: '" + value + "'", e);
+        }
+    }
+}
@@ -1,32 +1,124 @@
 package pages;
 
 import base.BasePage;
+import base.NetworkPolicy;
+import base.NewTabWatcher;
+import base.SiteConfig;
+import base.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+
+import static base.Text.normalizeWhitespace;
 
 public class QAJobsPage extends BasePage {
 
     public record JobPreview(String title, String department, String location, String href) {
     }
 
+    public enum CardExtraction {
+        BATCHED,
+        PER_ELEMENT
+    }
+
+    private static final String PATH = "/careers/open-positions/";
+    private static final Duration JOBS_LIST_QUIET_WINDOW = TestConfig.millisProperty("jobs.list.quietMillis", 500);
+    private static final String JOBS_API_PATTERN = TestConfig.stringProperty("jobs.api.pattern", "api\\.lever\\.co|/api/jobs");
+    private static final Duration JOBS_API_IDLE_WINDOW = TestConfig.millisProperty("jobs.api.idleMillis", 100);
+    private static final Duration JOBS_API_FIRST_REQUEST = TestConfig.millisProperty("jobs.api.firstRequestMillis", 1000);
+    private static final Duration JOBS_SETTLE_TIMEOUT = TestConfig.millisProperty("jobs.settleMillis", 20_000);
+
+    private static final String JOB_CARDS_CSS = "#jobs-list .position-list-item";
+    private static final String JOB_TITLE_CSS = "p.position-title";
+    private static final String JOB_DEPARTMENT_CSS = "span.position-department";
+    private static final String JOB_LOCATION_CSS = "div.position-location";
+    private static final String VIEW_ROLE_CSS = "a.btn.btn-navy";
+
+    private static final String READ_JOB_CARDS_SCRIPT = """
+            var cards = document.querySelectorAll(arguments[0]);
+            var text = function (card, css) {
+                var el = card.querySelector(css);
+                return el ? (el.innerText || el.textContent || '') : '';
+            };
+            var rows = [];
+            for (var i = 0; i < cards.length; i++) {
+                var link = cards[i].querySelector(arguments[4]);
+                rows.push([
+                    text(cards[i], arguments[1]),
+                    text(cards[i], arguments[2]),
+                    text(cards[i], arguments[3]),
+                    link ? (link.href || link.getAttribute('href') || '') : ''
+                ]);
+            }
+            return rows;
+            """;
+
+    private static final String SELECTED_FILTER_SCRIPT = """
+            var text = function (id) {
+                var select = document.getElementById(id);
+                var option = select && select.options[select.selectedIndex];
+                return option ? (option.text || '').trim() : '';
+            };
+            return { department: text('filter-by-department'), location: text('filter-by-location') };
+            """;
+
+    // True once any card has non-blank title, department and location; used for page readiness and after filtering.
+    private static final String JOBS_LIST_POPULATED_SCRIPT = """
+            var text = function (card, css) {
+                var el = card.querySelector(css);
+                return el ? (el.innerText || el.textContent || '').trim() : '';
+            };
+            var cards = document.querySelectorAll(arguments[0]);
+            for (var i = 0; i < cards.length; i++) {
+                if (text(cards[i], arguments[1]) && text(cards[i], arguments[2]) && text(cards[i], arguments[3])) {
+                    return true;
+                }
+            }
+            return false;
+            """;
+
     public QAJobsPage(WebDriver driver) {
         super(driver);
     }
 
+    public QAJobsPage open() {
+        open(SiteConfig.siteUrl(PATH));
+        return this;
+    }
+
+    // Deep link: the page preselects both dropdowns from the query string before loading the list.
+    public QAJobsPage open(JobsDeepLink.Filter filter) {
+        open(SiteConfig.siteUrl(PATH + "?" + filter.query()));
+        return this;
+    }
+
+    // Nothing in the default deny list matches these; this keeps a broad -Dnetwork.deny from blocking the jobs API
+    // that filter changes wait on (see selectAndSettle).
+    @Override
+    protected NetworkPolicy networkPolicy() {
+        return super.networkPolicy().withAllow("api\\.lever\\.co", "/api/jobs");
+    }
+
+    @Override
+    protected ExpectedCondition<?> readiness() {
+        return d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(
+                JOBS_LIST_POPULATED_SCRIPT, JOB_CARDS_CSS, JOB_TITLE_CSS, JOB_DEPARTMENT_CSS, JOB_LOCATION_CSS));
+    }
+
     public boolean qaJobs_isAt() {
         String url = driver.getCurrentUrl();
         boolean ok = url != null && url.contains("/careers/open-positions/");
@@ -115,11 +207,60 @@ public class QAJobsPage extends BasePage {
     }
 
     public void qaJobs_selectLocationIstanbulTurkiye() {
-        String beforeTextSnapshot = readJobsListContainerTextSafe();
-        safeSelectByVisibleText(qaJobs_locationSelect, "Istanbul, Turkiye");
-        waitForJobsListToRefresh(beforeTextSnapshot, Duration.ofSeconds(4));
-        waitForDuration(Duration.ofSeconds(4));
-        waitForJobListToBePopulated(Duration.ofSeconds(20));
+        qaJobs_selectLocation("Istanbul, Turkiye");
+    }
+
+    public void qaJobs_selectLocation(String location) {
+        selectAndSettle(qaJobs_locationSelect, location);
+    }
+
+    public void qaJobs_selectDepartment(String department) {
+        selectAndSettle(qaJobs_departmentSelect, department);
+    }
+
+    // Visible text of the department and location dropdowns, in one round trip.
+    public JobsDeepLink.Filter qaJobs_selectedFilter() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(SELECTED_FILTER_SCRIPT);
+        Map<?, ?> selected = raw instanceof Map<?, ?> map ? map : Map.of();
+        return new JobsDeepLink.Filter(
+                normalizeWhitespace(String.valueOf(selected.get("department"))),
+                normalizeWhitespace(String.valueOf(selected.get("location")))
+        );
+    }
+
+    // Waits for the jobs API response behind the filter change; DOM settling covers sites that filter client-side.
+    // Every wait draws on one deadline, so the fallbacks cannot add up past JOBS_SETTLE_TIMEOUT.
+    private void selectAndSettle(By select, String visibleText) {
+        long deadline = System.nanoTime() + JOBS_SETTLE_TIMEOUT.toNanos();
+        boolean armed;
+        try {
+            armDomSettle(qaJobs_jobsListContainer);
+            armed = true;
+        } catch (RuntimeException e) {
+            logger.debug("Could not arm jobs list observer; using text diff fallback.", e);
+            armed = false;
+        }
+        boolean tracking = armNetworkIdle(JOBS_API_PATTERN);
+
+        String beforeTextSnapshot = armed ? null : readJobsListContainerTextSafe();
+        safeSelectByVisibleText(select, visibleText);
+
+        if (tracking && waitForNetworkIdle(JOBS_API_IDLE_WINDOW, JOBS_API_FIRST_REQUEST, remaining(deadline))) {
+            logger.debug("Jobs API settled after selecting '{}'.", visibleText);
+            if (armed) {
+                disarmDomSettle();
+            }
+        } else if (armed) {
+            waitForDomSettled(JOBS_LIST_QUIET_WINDOW, Duration.ofSeconds(4), remaining(deadline));
+        } else {
+            Duration left = remaining(deadline);
+            waitForJobsListToRefresh(beforeTextSnapshot, left.compareTo(Duration.ofSeconds(4)) < 0 ? left : Duration.ofSeconds(4));
+        }
+        waitForJobListToBePopulated(remaining(deadline));
+    }
+
+    private static Duration remaining(long deadlineNanos) {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
     }
 
     public boolean qaJobs_waitForJobCardsLoaded() {
@@ -158,7 +299,7 @@ public class QAJobsPage extends BasePage {
     public List<JobPreview> qaJobs_collectValidQAJobsInIstanbul() {
         qaJobs_waitForJobCardsLoaded();
 
-        List<WebElement> cards = driver.findElements(qaJobs_jobCards);
+        List<JobPreview> cards = qaJobs_readJobCards(CardExtraction.BATCHED);
         if (cards.isEmpty()) {
             logger.warn("qaJobs_collectValidQAJobsInIstanbul: no job cards found (locator={}).", qaJobs_jobCards);
             return List.of();
@@ -166,12 +307,12 @@ public class QAJobsPage extends BasePage {
 
         List<JobPreview> valid = new ArrayList<>();
         for (int i = 0; i < cards.size(); i++) {
-            WebElement card = cards.get(i);
+            JobPreview card = cards.get(i);
 
-            String title = normalizeWhitespace(readTextInCard(card, qaJobs_jobTitleInCard));
-            String department = normalizeWhitespace(readTextInCard(card, qaJobs_jobDepartmentInCard));
-            String location = normalizeWhitespace(readTextInCard(card, qaJobs_jobLocationInCard));
-            String href = normalizeWhitespace(readAttributeInCard(card, qaJobs_viewRoleInCard, "href"));
+            String title = card.title();
+            String department = card.department();
+            String location = card.location();
+            String href = card.href();
 
             logger.info(
                     "Card(index={}) title='{}' dept='{}' loc='{}' href='{}'",
@@ -202,12 +343,64 @@ public class QAJobsPage extends BasePage {
                 continue;
             }
 
-            valid.add(new JobPreview(title, department, location, href));
+            valid.add(card);
         }
 
         return valid;
     }
 
+    public List<JobPreview> qaJobs_readJobCards(CardExtraction extraction) {
+        if (extraction == CardExtraction.BATCHED) {
+            try {
+                return readJobCardsBatched();
+            } catch (RuntimeException e) {
+                logger.warn("Batched job card extraction failed; falling back to per-element reads.", e);
+            }
+        }
+        return readJobCardsPerElement();
+    }
+
+    private List<JobPreview> readJobCardsBatched() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(
+                READ_JOB_CARDS_SCRIPT,
+                JOB_CARDS_CSS,
+                JOB_TITLE_CSS,
+                JOB_DEPARTMENT_CSS,
+                JOB_LOCATION_CSS,
+                VIEW_ROLE_CSS
+        );
+        if (!(raw instanceof List<?> rows)) {
+            throw new IllegalStateException("Unexpected job card script result: " + raw);
+        }
+
+        List<JobPreview> cards = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            List<?> fields = (List<?>) row;
+            cards.add(new JobPreview(
+                    normalizeWhitespace((String) fields.get(0)),
+                    normalizeWhitespace((String) fields.get(1)),
+                    normalizeWhitespace((String) fields.get(2)),
+                    normalizeWhitespace((String) fields.get(3))
+            ));
+        }
+        logger.debug("Read {} job cards in one script round trip.", cards.size());
+        return cards;
+    }
+
+    private List<JobPreview> readJobCardsPerElement() {
+        List<WebElement> cards = driver.findElements(qaJobs_jobCards);
+        List<JobPreview> previews = new ArrayList<>(cards.size());
+        for (WebElement card : cards) {
+            previews.add(new JobPreview(
+                    normalizeWhitespace(readTextInCard(card, qaJobs_jobTitleInCard)),
+                    normalizeWhitespace(readTextInCard(card, qaJobs_jobDepartmentInCard)),
+                    normalizeWhitespace(readTextInCard(card, qaJobs_jobLocationInCard)),
+                    normalizeWhitespace(readAttributeInCard(card, qaJobs_viewRoleInCard, "href"))
+            ));
+        }
+        return previews;
+    }
+
     public JobPreview qaJobs_clickRandomValidViewRoleWithFallback(List<JobPreview> validJobs) {
         if (validJobs == null || validJobs.isEmpty()) {
             logger.warn("qaJobs_clickRandomValidViewRoleWithFallback: validJobs is empty; nothing to click.");
@@ -250,7 +443,7 @@ public class QAJobsPage extends BasePage {
 
                 WebElement viewRole = matchingCard.findElement(qaJobs_viewRoleInCard);
 
-                Set<String> handlesBefore = new HashSet<>(driver.getWindowHandles());
+                NewTabWatcher newTab = NewTabWatcher.arm(driver);
 
                 logger.info(
                         "Attempting View Role click (candidateIndex={}, title='{}', dept='{}', loc='{}', href='{}')",
@@ -263,22 +456,19 @@ public class QAJobsPage extends BasePage {
 
                 safeClick(viewRole);
 
-                boolean opened = false;
+                String handle = null;
                 try {
-                    opened = shortWait(Duration.ofSeconds(5)).until(d -> {
-                        Set<String> now = new HashSet<>(d.getWindowHandles());
-                        now.removeAll(handlesBefore);
-                        return !now.isEmpty();
-                    });
+                    handle = newTab.switchToNewTab(Duration.ofSeconds(5));
                 } catch (TimeoutException e) {
-                    opened = false;
+                    handle = null;
                 }
 
-                if (opened) {
+                if (handle != null) {
                     logger.info(
-                            "New tab opened successfully for candidate (candidateIndex={}, href='{}').",
+                            "New tab opened and switched to for candidate (candidateIndex={}, href='{}', handle={}).",
                             candidateIndex,
-                            candidateHref
+                            candidateHref,
+                            handle
                     );
                     return candidate;
                 }
@@ -311,24 +501,8 @@ public class QAJobsPage extends BasePage {
 
     private boolean waitForJobListToBePopulated(Duration timeout) {
         try {
-            return fluentWait(timeout).until(d -> {
-                List<WebElement> cards = d.findElements(qaJobs_jobCards);
-                if (cards.isEmpty()) {
-                    return false;
-                }
-
-                for (WebElement card : cards) {
-                    String title = normalizeWhitespace(readTextInCard(card, qaJobs_jobTitleInCard));
-                    String department = normalizeWhitespace(readTextInCard(card, qaJobs_jobDepartmentInCard));
-                    String location = normalizeWhitespace(readTextInCard(card, qaJobs_jobLocationInCard));
-
-                    if (!title.isBlank() && !department.isBlank() && !location.isBlank()) {
-                        return true;
-                    }
-                }
-
-                return false;
-            });
+            waitInPage(JOBS_LIST_POPULATED_SCRIPT, timeout, JOB_CARDS_CSS, JOB_TITLE_CSS, JOB_DEPARTMENT_CSS, JOB_LOCATION_CSS);
+            return true;
         } catch (TimeoutException e) {
             logger.warn("Timed out waiting for job list to populate (timeout={}s).", timeout.getSeconds());
             return false;
@@ -351,18 +525,6 @@ public class QAJobsPage extends BasePage {
         }
     }
 
-    private void waitForDuration(Duration duration) {
-        long startNanos = System.nanoTime();
-        try {
-            fluentWait(duration).until(d -> {
-                long elapsedNanos = System.nanoTime() - startNanos;
-                return elapsedNanos >= duration.toNanos();
-            });
-        } catch (RuntimeException e) {
-            logger.debug("waitForDuration failed (non-fatal). Continuing.", e);
-        }
-    }
-
     private String readJobsListContainerTextSafe() {
         try {
             return driver.findElement(qaJobs_jobsListContainer).getText();
@@ -371,13 +533,6 @@ public class QAJobsPage extends BasePage {
         }
     }
 
-    private static String normalizeWhitespace(String s) {
-        if (s == null) {
-            return "";
-        }
-        return s.replaceAll("\\s+", " ").trim();
-    }
-
     private static boolean isDisplayedSafe(WebElement el) {
         try {
             return el.isDisplayed();
@@ -407,9 +562,9 @@ public class QAJobsPage extends BasePage {
     private final By qaJobs_locationSelect = By.id("filter-by-location");
     private final By qaJobs_departmentSelect = By.id("filter-by-department");
     private final By qaJobs_jobsListContainer = By.id("jobs-list");
-    private final By qaJobs_jobCards = By.cssSelector("#jobs-list .position-list-item");
-    private final By qaJobs_jobTitleInCard = By.cssSelector("p.position-title");
-    private final By qaJobs_jobDepartmentInCard = By.cssSelector("span.position-department");
-    private final By qaJobs_jobLocationInCard = By.cssSelector("div.position-location");
-    private final By qaJobs_viewRoleInCard = By.cssSelector("a.btn.btn-navy");
+    private final By qaJobs_jobCards = By.cssSelector(JOB_CARDS_CSS);
+    private final By qaJobs_jobTitleInCard = By.cssSelector(JOB_TITLE_CSS);
+    private final By qaJobs_jobDepartmentInCard = By.cssSelector(JOB_DEPARTMENT_CSS);
+    private final By qaJobs_jobLocationInCard = By.cssSelector(JOB_LOCATION_CSS);
+    private final By qaJobs_viewRoleInCard = By.cssSelector(VIEW_ROLE_CSS);
 }
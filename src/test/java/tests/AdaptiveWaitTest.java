@@ -0,0 +1,50 @@
+package tests;
+
+import base.AdaptiveWait;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveWaitTest {
+
+    private static final WebDriver NO_DRIVER = (WebDriver) Proxy.newProxyInstance(
+            WebDriver.class.getClassLoader(),
+            new Class<?>[]{WebDriver.class},
+            (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            }
+    );
+
+    @Test
+    void fastConditionIsSeenBeforeTheOldFixedPollInterval() {
+        long readyAt = System.nanoTime() + Duration.ofMillis(40).toNanos();
+        AtomicInteger checks = new AtomicInteger();
+
+        long startNanos = System.nanoTime();
+        new AdaptiveWait(NO_DRIVER, Duration.ofSeconds(5)).until(d -> checks.incrementAndGet() > 0 && System.nanoTime() >= readyAt);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        assertTrue(elapsedMillis < 200, "satisfied after " + elapsedMillis + "ms");
+        assertTrue(checks.get() >= 2, "checks=" + checks.get());
+    }
+
+    @Test
+    void backoffStillHonoursTheTimeout() {
+        AtomicInteger checks = new AtomicInteger();
+
+        long startNanos = System.nanoTime();
+        assertThrows(TimeoutException.class,
+                () -> new AdaptiveWait(NO_DRIVER, Duration.ofMillis(600)).until(d -> checks.incrementAndGet() < 0));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        assertTrue(elapsedMillis >= 600 && elapsedMillis < 1_000, "timed out after " + elapsedMillis + "ms");
+        // 15 + 30 + 60 + 120 + 240 ms of sleeps, then one sleep clamped to the deadline.
+        assertTrue(checks.get() >= 5 && checks.get() <= 10, "checks=" + checks.get());
+    }
+}
@@ -0,0 +1,75 @@
+package tests;
+
+import fixtures.FixtureServer;
+import fixtures.FixtureServerExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixtureServerTest {
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    @RegisterExtension
+    static final FixtureServerExtension fixture = new FixtureServerExtension(FixtureServer.Options.defaults().withJobsApiDelay(Duration.ofMillis(150)));
+
+    @Test
+    void servesSitePagesWithPageObjectSelectors() throws Exception {
+        assertTrue(get("/").body().contains("id=\"navigation\""));
+        assertTrue(get("/careers/quality-assurance/").body().contains("department=qualityassurance"));
+        assertTrue(get("/careers/open-positions/?department=qualityassurance").body().contains("id=\"jobs-list\""));
+        assertEquals(404, get("/does-not-exist").statusCode());
+    }
+
+    @Test
+    void answersBadParametersInsteadOfHanging() throws Exception {
+        assertEquals(400, get("/fixtures/job-cards?count=abc").statusCode());
+        assertEquals(400, get("/fixtures/new-tab?delay=soon").statusCode());
+    }
+
+    @Test
+    void jobsApiFiltersByDepartmentAndLocationAfterDelay() throws Exception {
+        String location = URLEncoder.encode("Istanbul, Turkiye", StandardCharsets.UTF_8);
+
+        long startNanos = System.nanoTime();
+        HttpResponse<String> response = get("/api/jobs?department=qualityassurance&location=" + location);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        List<Map<String, Object>> jobs = new Json().toType(response.body(), Json.LIST_OF_MAPS_TYPE);
+        assertEquals(3, jobs.size());
+        assertTrue(elapsedMillis >= 150, "jobs API delay not applied: " + elapsedMillis + "ms");
+        for (Map<String, Object> job : jobs) {
+            assertEquals("Quality Assurance", job.get("department"));
+            assertEquals("Istanbul, Turkiye", job.get("location"));
+            assertTrue(String.valueOf(job.get("href")).startsWith(fixture.server().leverBaseUrl()));
+        }
+    }
+
+    @Test
+    void servesLeverPostingForKnownJobOnly() throws Exception {
+        HttpResponse<String> posting = get(FixtureServer.LEVER_PATH + "qa-ist-senior");
+        assertEquals(200, posting.statusCode());
+        assertTrue(posting.body().contains("<h2>Senior Software Quality Assurance Engineer</h2>"));
+        assertTrue(posting.body().contains("Istanbul, Turkiye"));
+
+        assertEquals(404, get(FixtureServer.LEVER_PATH + "unknown").statusCode());
+    }
+
+    private static HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(fixture.server().baseUrl() + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
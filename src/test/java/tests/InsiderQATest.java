@@ -1,23 +1,24 @@
 package tests;
 
 import base.BaseTest;
+import base.SiteConfig;
+import base.TestConfig;
+import lever.LeverPostingClient;
+import lever.LeverPostingVerifier;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.By;
-import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pages.CareersQAPage;
 import pages.HomePage;
 import pages.LeverJobPage;
+import pages.LeverVerification;
 import pages.QAJobsPage;
 
 import java.time.Duration;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
+import static metrics.StepTimings.step;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class InsiderQATest extends BaseTest {
@@ -26,63 +27,48 @@ public class InsiderQATest extends BaseTest {
 
     @Test
     void insiderQaCaseStudyScenario1() {
-        HomePage homePage = new HomePage(driver).open();
+        HomePage homePage = step("home.open", () -> new HomePage(driver).open());
 
         logger.info("Scenario1: Checking for cookie popup...");
 
-        try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            By cookieAccept = By.id("wt-cli-accept-all-btn");
-
-            shortWait.until(ExpectedConditions.elementToBeClickable(cookieAccept)).click();
-
+        if (homePage.acceptCookieBanner(Duration.ofSeconds(5))) {
             logger.info("Scenario1: Cookie popup detected and accepted.");
-        } catch (TimeoutException e) {
-            logger.info("Scenario1: No cookie popup detected within 5 seconds. Continuing.");
         }
 
-        logger.info("Scenario1: Waiting for homepage elements to load...");
-
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("navigation")));
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("email")));
-        wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//header[@id='navigation']//a[contains(normalize-space(.),'Get a demo')]")
-        ));
-
-        logger.info("Scenario1: Homepage main elements loaded.");
+        logger.info("Scenario1: Taking homepage snapshot...");
+        HomePage.Snapshot snapshot = step("home.snapshot", () -> homePage.snapshot());
+        logger.info("Scenario1: Homepage snapshot taken (ready={}).", snapshot.ready());
 
         assertTrue(
-                homePage.isNavbarVisible(),
-                "Navbar should be visible (By.id(\"navigation\"))"
+                snapshot.navbar().visible() && !snapshot.navbar().text().isEmpty(),
+                "Navbar should be visible and non-empty (By.id(\"navigation\")): " + snapshot.navbar()
         );
         assertTrue(
-                homePage.isLogoValid(),
-                "Logo anchor should be visible and href should contain \"insiderone.com\" (By.cssSelector(\"#navigation .header-logo a\"))"
+                snapshot.logo().visible() && snapshot.logo().href() != null && snapshot.logo().href().contains("insiderone.com"),
+                "Logo anchor should be visible and href should contain \"insiderone.com\" (By.cssSelector(\"#navigation .header-logo a\")): " + snapshot.logo()
         );
         assertTrue(
-                homePage.isNavbarGetDemoClickable(),
-                "Navbar \"Get a demo\" link should be clickable (By.xpath(\"//header[@id='navigation']//a[contains(normalize-space(.),'Get a demo')]\"))"
+                snapshot.navbarGetDemo().clickable(),
+                "Navbar \"Get a demo\" link should be clickable (By.xpath(\"//header[@id='navigation']//a[contains(normalize-space(.),'Get a demo')]\")): " + snapshot.navbarGetDemo()
         );
         assertTrue(
-                homePage.isEmailInputVisible(),
-                "Email input should be visible and enabled (By.id(\"email\"))"
+                snapshot.emailInput().visible() && snapshot.emailInput().enabled(),
+                "Email input should be visible and enabled (By.id(\"email\")): " + snapshot.emailInput()
         );
         assertTrue(
-                homePage.isHeroGetDemoClickable(),
-                "Hero \"Get a demo\" button should be clickable (By.cssSelector(\"section.homepage-hero form .redirect-button\"))"
+                snapshot.heroGetDemo().clickable(),
+                "Hero \"Get a demo\" button should be clickable (By.cssSelector(\"section.homepage-hero form .redirect-button\")): " + snapshot.heroGetDemo()
         );
     }
 
     @Test
     void insiderQaCaseStudyScenario2To4() {
-        CareersQAPage careers = new CareersQAPage(driver).open();
+        CareersQAPage careers = step("careers.open", () -> new CareersQAPage(driver).open());
         assertTrue(careers.careersQA_isAt());
         assertTrue(careers.careersQA_isSeeAllQAJobsButtonVisible());
         assertTrue(careers.careersQA_isSeeAllQAJobsButtonHrefCorrect());
 
-        QAJobsPage qaJobs = careers.careersQA_clickSeeAllQAJobsButton();
+        QAJobsPage qaJobs = step("careers.clickSeeAll", careers::careersQA_clickSeeAllQAJobsButton);
         assertTrue(qaJobs.qaJobs_isAt());
 
         assertTrue(qaJobs.qaJobs_waitForJobCardsLoaded());
@@ -90,30 +76,51 @@ public class InsiderQATest extends BaseTest {
         logger.info("Job cards loaded, proceeding with department verification.");
         assertTrue(qaJobs.qaJobs_isDepartmentAutoSelectedAsQA());
 
-        qaJobs.qaJobs_selectLocationIstanbulTurkiye();
+        step("jobs.filterLocation", qaJobs::qaJobs_selectLocationIstanbulTurkiye);
 
         assertTrue(qaJobs.qaJobs_waitForJobCardsLoaded());
         assertTrue(qaJobs.qaJobs_isJobsListVisible());
         assertTrue(qaJobs.qaJobs_hasJobCards());
 
         String originalHandle = driver.getWindowHandle();
-        List<QAJobsPage.JobPreview> valid = qaJobs.qaJobs_collectValidQAJobsInIstanbul();
+        List<QAJobsPage.JobPreview> valid = step("jobs.collectCards", qaJobs::qaJobs_collectValidQAJobsInIstanbul);
         logger.info("Valid QA Istanbul cards count={}", valid.size());
         assertFalse(valid.isEmpty(), "No valid QA jobs found for Istanbul, Turkey/Turkiye.");
 
-        Set<String> handlesBefore = new HashSet<>(driver.getWindowHandles());
+        if (TestConfig.booleanProperty("lever.verify.all", false)) {
+            LeverPostingVerifier.Report report = step("lever.verifyAll", () -> LeverPostingVerifier.configured(LeverPostingCriteria::mismatch).verifyAll(valid));
+            assertTrue(report.allPassed(), "Lever postings failed verification:\n" + report.table());
+        }
+
+        LeverVerification verification = LeverVerification.configured();
+        QAJobsPage.JobPreview selected;
+        if (verification.sampleBrowserPath()) {
+            selected = step("lever.verify", () -> verifyLeverPostingInBrowser(qaJobs, valid));
+        } else {
+            selected = valid.get(ThreadLocalRandom.current().nextInt(valid.size()));
+            logger.info("Step: Browser Lever verification not sampled; selected href={}", selected.href());
+            assertTrue(SiteConfig.isLeverUrl(selected.href()));
+        }
+
+        if (verification.usesHttp()) {
+            LeverPostingClient.Posting posting = step("lever.verifyHttp", () -> LeverPostingClient.shared().fetch(selected.href()));
+            assertEquals(200, posting.status(), "Lever posting HTTP status for " + selected.href());
+            assertLeverPostingMatches(selected, posting.title(), posting.department(), posting.location());
+        }
+    }
+
+    private QAJobsPage.JobPreview verifyLeverPostingInBrowser(QAJobsPage qaJobs, List<QAJobsPage.JobPreview> valid) {
+        String originalHandle = driver.getWindowHandle();
         QAJobsPage.JobPreview selected = qaJobs.qaJobs_clickRandomValidViewRoleWithFallback(valid);
         assertNotNull(selected);
         assertNotNull(selected.href());
-        assertTrue(selected.href().contains("jobs.lever.co"));
+        assertTrue(SiteConfig.isLeverUrl(selected.href()));
 
-        wait.until(d -> d.getWindowHandles().size() > handlesBefore.size());
-        Set<String> handlesAfter = new HashSet<>(driver.getWindowHandles());
-        handlesAfter.removeAll(handlesBefore);
-        driver.switchTo().window(handlesAfter.iterator().next());
+        assertNotEquals(originalHandle, driver.getWindowHandle(), "View Role click should have switched to the Lever tab.");
         logger.info("Step: Switched to Lever tab. url={}, title={}", driver.getCurrentUrl(), driver.getTitle());
 
         LeverJobPage lever = new LeverJobPage(driver);
+        lever.awaitReady();
         assertTrue(lever.lever_isAt());
 
         String leverTitle = lever.lever_getTitle();
@@ -126,6 +133,11 @@ public class InsiderQATest extends BaseTest {
                 leverDept,
                 leverLoc
         );
+        assertLeverPostingMatches(selected, leverTitle, leverDept, leverLoc);
+        return selected;
+    }
+
+    private void assertLeverPostingMatches(QAJobsPage.JobPreview selected, String title, String department, String location) {
         logger.info(
                 "Step: Expected job preview: title='{}', dept='{}', loc='{}', href='{}'",
                 selected.title(),
@@ -134,15 +146,7 @@ public class InsiderQATest extends BaseTest {
                 selected.href()
         );
 
-        assertTrue(normalized(lever.lever_getTitle()).contains(normalized(selected.title())));
-        assertTrue(normalized(lever.lever_getDepartment()).toLowerCase().contains("quality assurance"));
-
-        String leverLocationLower = normalized(lever.lever_getLocation()).toLowerCase();
-        assertTrue(leverLocationLower.contains("istanbul"));
-        assertTrue(leverLocationLower.contains("turkey") || leverLocationLower.contains("turkiye"));
-    }
-
-    private String normalized(String s) {
-        return s == null ? "" : s.replaceAll("\\s+", " ").trim();
+        String mismatch = LeverPostingCriteria.mismatch(selected, title, department, location);
+        assertNull(mismatch, "Lever posting does not match the selected job: " + mismatch);
     }
 }
@@ -0,0 +1,113 @@
+package tests;
+
+import base.BrowserProfile;
+import base.DriverFactory;
+import base.UserContexts;
+import fixtures.FixtureServerExtension;
+import metrics.PerfReports;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Per-test isolation cost: a fresh Chrome process per test versus a fresh browser context in one Chrome.
+@Tag("benchmark")
+public class IsolationBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsolationBenchmarkTest.class);
+
+    @RegisterExtension
+    static final FixtureServerExtension fixture = new FixtureServerExtension();
+
+    @ParameterizedTest(name = "isolated tests={0}")
+    @ValueSource(ints = {1, 4})
+    void processPerTestVersusContextPerTest(int units) {
+        BrowserProfile profile = BrowserProfile.defaultProfile();
+        String page = fixture.server().baseUrl() + "/";
+        long baselineKb = memoryKb();
+
+        List<WebDriver> processes = new ArrayList<>();
+        long processSetupNanos = 0;
+        long processKb;
+        try {
+            for (int i = 0; i < units; i++) {
+                long startNanos = System.nanoTime();
+                WebDriver driver = DriverFactory.createChromeDriver(profile);
+                driver.get(page);
+                processSetupNanos += System.nanoTime() - startNanos;
+                processes.add(driver);
+            }
+            processKb = memoryKb() - baselineKb;
+        } finally {
+            processes.forEach(WebDriver::quit);
+        }
+
+        WebDriver browser = DriverFactory.createChromeDriver(profile);
+        String home = browser.getWindowHandle();
+        List<UserContexts.Lease> contexts = new ArrayList<>();
+        long contextSetupNanos = 0;
+        long contextKb;
+        try {
+            for (int i = 0; i < units; i++) {
+                long startNanos = System.nanoTime();
+                UserContexts.Lease lease = UserContexts.open(browser);
+                assertNotNull(lease, "Driver supports neither BiDi user contexts nor CDP browser contexts.");
+                browser.get(page);
+                contextSetupNanos += System.nanoTime() - startNanos;
+                contexts.add(lease);
+            }
+            contextKb = memoryKb() - baselineKb;
+            contexts.forEach(lease -> UserContexts.close(browser, lease, home));
+        } finally {
+            browser.quit();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("units", units);
+        result.put("processSetupAvgMs", processSetupNanos / 1_000_000 / units);
+        result.put("contextSetupAvgMs", contextSetupNanos / 1_000_000 / units);
+        result.put("processMemoryKb", processKb);
+        result.put("contextMemoryKb", contextKb);
+        result.put("memorySource", Files.isReadable(Path.of("/proc/self/smaps_rollup")) ? "pss" : "rss");
+        logger.info("Isolation benchmark: {}", result);
+        PerfReports.writeJson("isolation-benchmark-" + units + ".json", result);
+
+        assertTrue(contextSetupNanos < processSetupNanos,
+                "Context setup should be cheaper than starting Chrome: " + result);
+    }
+
+    // Proportional set size of every process this JVM started (chromedriver and Chrome), so shared pages count once.
+    private static long memoryKb() {
+        return ProcessHandle.current().descendants()
+                .mapToLong(process -> memoryKb(process.pid()))
+                .sum();
+    }
+
+    private static long memoryKb(long pid) {
+        for (String source : List.of("/proc/" + pid + "/smaps_rollup", "/proc/" + pid + "/status")) {
+            try {
+                for (String line : Files.readAllLines(Path.of(source))) {
+                    if (line.startsWith("Pss:") || line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // process gone or /proc not available
+            }
+        }
+        return 0;
+    }
+}
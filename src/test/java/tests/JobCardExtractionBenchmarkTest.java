@@ -0,0 +1,92 @@
+package tests;
+
+import base.BaseTest;
+import fixtures.FixtureServerExtension;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pages.QAJobsPage;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("benchmark")
+public class JobCardExtractionBenchmarkTest extends BaseTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobCardExtractionBenchmarkTest.class);
+
+    @RegisterExtension
+    static final FixtureServerExtension fixture = new FixtureServerExtension();
+
+    @ParameterizedTest(name = "cards={0}")
+    @ValueSource(ints = {50, 200, 500})
+    void batchedVsPerElementExtraction(int cardCount) {
+        driver.get(fixture.server().baseUrl() + "/fixtures/job-cards?count=" + cardCount);
+
+        RoundTripCounter counter = new RoundTripCounter();
+        QAJobsPage qaJobs = new QAJobsPage(new EventFiringDecorator<>(counter).decorate(driver));
+
+        qaJobs.qaJobs_readJobCards(QAJobsPage.CardExtraction.PER_ELEMENT);
+        qaJobs.qaJobs_readJobCards(QAJobsPage.CardExtraction.BATCHED);
+
+        Run perElement = measure(qaJobs, QAJobsPage.CardExtraction.PER_ELEMENT, counter);
+        Run batched = measure(qaJobs, QAJobsPage.CardExtraction.BATCHED, counter);
+
+        logger.info(
+                "Job card extraction (cards={}): per-element roundTrips={}, ms={} | batched roundTrips={}, ms={}",
+                cardCount,
+                perElement.roundTrips(),
+                perElement.millis(),
+                batched.roundTrips(),
+                batched.millis()
+        );
+
+        assertEquals(cardCount, batched.cards().size());
+        assertEquals(perElement.cards(), batched.cards());
+        assertEquals(1, batched.roundTrips());
+        assertEquals(1 + 8 * cardCount, perElement.roundTrips());
+    }
+
+    private static Run measure(QAJobsPage qaJobs, QAJobsPage.CardExtraction extraction, RoundTripCounter counter) {
+        counter.reset();
+        long startNanos = System.nanoTime();
+        List<QAJobsPage.JobPreview> cards = qaJobs.qaJobs_readJobCards(extraction);
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        return new Run(cards, counter.count(), millis);
+    }
+
+    private record Run(List<QAJobsPage.JobPreview> cards, int roundTrips, long millis) {
+    }
+
+    private static final class RoundTripCounter implements WebDriverListener {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void beforeAnyWebDriverCall(WebDriver driver, Method method, Object[] args) {
+            calls.incrementAndGet();
+        }
+
+        @Override
+        public void beforeAnyWebElementCall(WebElement element, Method method, Object[] args) {
+            calls.incrementAndGet();
+        }
+
+        void reset() {
+            calls.set(0);
+        }
+
+        int count() {
+            return calls.get();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package tests;
+
+import base.BaseTest;
+import base.Text;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pages.JobsDeepLink;
+import pages.QAJobsPage;
+
+import java.util.List;
+
+import static metrics.StepTimings.step;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("bulk")
+public class JobFilterCombinationsTest extends BaseTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobFilterCombinationsTest.class);
+
+    @ParameterizedTest(name = "{0} / {1}")
+    @CsvSource(delimiter = '|', value = {
+            "Quality Assurance | Istanbul, Turkiye",
+            "Quality Assurance | Amsterdam, Netherlands",
+            "Quality Assurance | Remote",
+            "Software Development | Istanbul, Turkiye",
+            "Sales | London, United Kingdom"
+    })
+    void everyListedJobMatchesTheFilter(String department, String location) {
+        JobsDeepLink.Filter filter = new JobsDeepLink.Filter(department, location);
+        QAJobsPage jobs = step("jobs.openFiltered", () -> JobsDeepLink.open(driver, filter));
+
+        List<QAJobsPage.JobPreview> cards = jobs.qaJobs_readJobCards(QAJobsPage.CardExtraction.BATCHED);
+        logger.info("Filter {}: {} jobs", filter, cards.size());
+        assertFalse(cards.isEmpty(), "No jobs listed for " + filter);
+
+        String city = Text.slug(location.split(",")[0]);
+        for (QAJobsPage.JobPreview card : cards) {
+            assertEquals(Text.slug(department), Text.slug(card.department()), "Department of " + card);
+            assertTrue(Text.slug(card.location()).contains(city), "Location of " + card);
+        }
+    }
+}
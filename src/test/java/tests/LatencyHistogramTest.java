@@ -0,0 +1,33 @@
+package tests;
+
+import metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void percentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1_000; millis++) {
+            histogram.recordNanos(millis * 1_000_000L);
+        }
+
+        assertEquals(1_000, histogram.count());
+        assertEquals(500.5, histogram.meanMillis(), 0.01);
+        assertEquals(1_000.0, histogram.maxMillis(), 0.01);
+        assertEquals(500.0, histogram.percentileMillis(50), 500.0 * 0.07);
+        assertEquals(990.0, histogram.percentileMillis(99), 990.0 * 0.07);
+        assertTrue(histogram.percentileMillis(100) <= histogram.maxMillis());
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0.0, histogram.percentileMillis(99));
+        assertEquals(0.0, histogram.meanMillis());
+    }
+}
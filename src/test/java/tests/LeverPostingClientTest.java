@@ -0,0 +1,59 @@
+package tests;
+
+import fixtures.FixtureServer;
+import fixtures.FixtureServerExtension;
+import lever.LeverPostingClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeverPostingClientTest {
+
+    private static final LeverPostingClient client = new LeverPostingClient(HttpClient.newHttpClient(), Duration.ofSeconds(5));
+
+    @RegisterExtension
+    static final FixtureServerExtension fixture = new FixtureServerExtension(FixtureServer.Options.defaults().withJobs(List.of(
+            new FixtureServer.Job("qa-ist", "Senior Software Quality Assurance Engineer", "Quality Assurance", "Istanbul, Turkiye"),
+            new FixtureServer.Job("qa-rnd", "QA & Test <Automation> Engineer", "Quality Assurance", "Istanbul, Turkey")
+    )));
+
+    @Test
+    void readsHeadlineAndCategoriesFromPosting() {
+        LeverPostingClient.Posting posting = client.fetch(fixture.server().baseUrl() + FixtureServer.LEVER_PATH + "qa-ist");
+
+        assertTrue(posting.found());
+        assertEquals("Senior Software Quality Assurance Engineer", posting.title());
+        assertEquals("Quality Assurance", posting.department());
+        assertEquals("Istanbul, Turkiye", posting.location());
+    }
+
+    @Test
+    void decodesEscapedMarkupInFields() {
+        LeverPostingClient.Posting posting = client.fetch(fixture.server().baseUrl() + FixtureServer.LEVER_PATH + "qa-rnd");
+
+        assertEquals("QA & Test <Automation> Engineer", posting.title());
+        assertEquals("Istanbul, Turkey", posting.location());
+    }
+
+    @Test
+    void keepsOutOfRangeNumericEntitiesAsText() {
+        LeverPostingClient.Posting posting = LeverPostingClient.parse(
+                "inline", "<div class=\"posting-headline\"><h2>QA &#x110000; &#99999999999; &#x41;</h2></div>", 0);
+
+        assertEquals("QA &#x110000; &#99999999999; A", posting.title());
+    }
+
+    @Test
+    void reportsMissingPostingByStatus() {
+        LeverPostingClient.Posting posting = client.fetch(fixture.server().baseUrl() + FixtureServer.LEVER_PATH + "unknown");
+
+        assertEquals(404, posting.status());
+        assertFalse(posting.found());
+        assertEquals("", posting.title());
+    }
+}
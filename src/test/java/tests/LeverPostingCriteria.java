@@ -0,0 +1,34 @@
+package tests;
+
+import pages.QAJobsPage;
+
+import java.util.List;
+import java.util.Locale;
+
+import static base.Text.normalizeWhitespace;
+
+// Scenario 2-4 definition of a matching Lever posting, used for the browser tab, the HTTP check and the verifier test.
+final class LeverPostingCriteria {
+
+    static final String DEPARTMENT = "quality assurance";
+    static final String CITY = "istanbul";
+    static final List<String> COUNTRIES = List.of("turkey", "turkiye");
+
+    private LeverPostingCriteria() {
+    }
+
+    // Null when the posting matches the selected job preview.
+    static String mismatch(QAJobsPage.JobPreview expected, String title, String department, String location) {
+        if (!normalizeWhitespace(title).contains(normalizeWhitespace(expected.title()))) {
+            return "title '" + title + "' does not contain '" + expected.title() + "'";
+        }
+        if (!normalizeWhitespace(department).toLowerCase(Locale.ROOT).contains(DEPARTMENT)) {
+            return "department '" + department + "' is not Quality Assurance";
+        }
+        String locationLower = normalizeWhitespace(location).toLowerCase(Locale.ROOT);
+        if (!locationLower.contains(CITY) || COUNTRIES.stream().noneMatch(locationLower::contains)) {
+            return "location '" + location + "' is not Istanbul, Turkey/Turkiye";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package tests;
+
+import fixtures.FixtureServer;
+import fixtures.FixtureServerExtension;
+import lever.LeverPostingClient;
+import lever.LeverPostingVerifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import pages.QAJobsPage;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeverPostingVerifierTest {
+
+    private static final int POSTINGS = 40;
+    private static final int MAX_CONCURRENCY = 8;
+    private static final Duration PAGE_DELAY = Duration.ofMillis(100);
+
+    @RegisterExtension
+    static final FixtureServerExtension fixture = new FixtureServerExtension(FixtureServer.Options.defaults()
+            .withJobs(FixtureServer.generatedQaJobs(POSTINGS))
+            .withPageDelay(PAGE_DELAY));
+
+    @Test
+    void verifiesEveryPostingConcurrentlyWithinTheLimit() {
+        List<QAJobsPage.JobPreview> previews = new ArrayList<>();
+        for (FixtureServer.Job job : fixture.server().options().jobs()) {
+            previews.add(new QAJobsPage.JobPreview(job.title(), job.department(), job.location(), fixture.server().leverHref(job)));
+        }
+        previews.add(new QAJobsPage.JobPreview("Software Quality Assurance Engineer 99", "Quality Assurance", "Istanbul, Turkiye",
+                fixture.server().baseUrl() + FixtureServer.LEVER_PATH + "qa-ist-gen-1"));
+        previews.add(new QAJobsPage.JobPreview("Removed Quality Assurance Role", "Quality Assurance", "Istanbul, Turkiye",
+                fixture.server().baseUrl() + FixtureServer.LEVER_PATH + "removed"));
+
+        LeverPostingVerifier verifier = new LeverPostingVerifier(
+                new LeverPostingClient(HttpClient.newHttpClient(), Duration.ofSeconds(5)), MAX_CONCURRENCY, LeverPostingCriteria::mismatch);
+        LeverPostingVerifier.Report report = verifier.verifyAll(previews);
+
+        assertEquals(POSTINGS + 2, report.results().size());
+        assertEquals(2, report.failures().size(), report.table());
+        assertEquals("HTTP 404", report.results().getLast().failure());
+        assertTrue(report.results().get(POSTINGS).failure().startsWith("title"), report.table());
+
+        int peak = fixture.server().peakInFlight();
+        assertTrue(peak >= 2 && peak <= MAX_CONCURRENCY, "peak requests in flight at the fixture server: " + peak);
+        assertTrue(report.maxInFlight() <= MAX_CONCURRENCY, "maxInFlight=" + report.maxInFlight());
+    }
+}
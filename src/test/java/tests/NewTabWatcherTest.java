@@ -0,0 +1,50 @@
+package tests;
+
+import base.BaseTest;
+import base.NewTabWatcher;
+import base.TestConfig;
+import fixtures.FixtureServer;
+import fixtures.FixtureServerExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NewTabWatcherTest extends BaseTest {
+
+    @RegisterExtension
+    static final FixtureServerExtension fixture = new FixtureServerExtension();
+
+    @Test
+    void switchesToTabOpenedByBlankTargetLink() {
+        driver.get(fixture.server().baseUrl() + "/fixtures/new-tab");
+        String original = driver.getWindowHandle();
+
+        NewTabWatcher newTab = NewTabWatcher.arm(driver);
+        driver.findElement(By.id("blank-link")).click();
+        String handle = newTab.switchToNewTab(Duration.ofSeconds(5));
+
+        assertNotEquals(original, handle);
+        assertEquals(handle, driver.getWindowHandle());
+        assertEquals(TestConfig.booleanProperty("driver.bidi", true), newTab.eventDriven());
+        wait.until(ExpectedConditions.urlContains(FixtureServer.LEVER_PATH));
+    }
+
+    @Test
+    void pollingFallbackSeesDelayedWindowOpen() {
+        driver.get(fixture.server().baseUrl() + "/fixtures/new-tab?delay=300");
+        String original = driver.getWindowHandle();
+
+        NewTabWatcher newTab = NewTabWatcher.armPolling(driver);
+        driver.findElement(By.id("delayed-open")).click();
+        String handle = newTab.switchToNewTab(Duration.ofSeconds(5));
+
+        assertFalse(newTab.eventDriven());
+        assertNotEquals(original, handle);
+        wait.until(ExpectedConditions.urlContains(FixtureServer.LEVER_PATH));
+    }
+}
@@ -0,0 +1,75 @@
+package tests;
+
+import base.RetryPolicy;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryPolicyTest {
+
+    private static final RetryPolicy POLICY = new RetryPolicy(
+            Duration.ofSeconds(2),
+            Duration.ofMillis(1),
+            Duration.ofMillis(5),
+            List.of(
+                    new RetryPolicy.Rule(ElementClickInterceptedException.class, 2, RetryPolicy.Recovery.DISMISS_OVERLAYS),
+                    new RetryPolicy.Rule(StaleElementReferenceException.class, 3, RetryPolicy.Recovery.RELOCATE)
+            )
+    );
+
+    @Test
+    void interceptedClickDismissesOverlaysUntilItSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger dismissals = new AtomicInteger();
+
+        String result = POLICY.execute("test: intercepted", Duration.ofSeconds(1), true, timeout -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ElementClickInterceptedException("covered");
+            }
+            return "clicked";
+        }, dismissals::incrementAndGet);
+
+        assertEquals("clicked", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, dismissals.get());
+    }
+
+    @Test
+    void staleElementIsOnlyRetriedWhenItCanBeRelocated() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(StaleElementReferenceException.class, () -> POLICY.execute("test: stale", Duration.ofSeconds(1), false, timeout -> {
+            attempts.incrementAndGet();
+            throw new StaleElementReferenceException("detached");
+        }, () -> {
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void unlistedExceptionsAndExhaustedBudgetsAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        assertThrows(NoSuchElementException.class, () -> POLICY.execute("test: missing", Duration.ofSeconds(1), true, timeout -> {
+            attempts.incrementAndGet();
+            throw new NoSuchElementException("gone");
+        }, () -> {
+        }));
+        assertEquals(1, attempts.get());
+
+        AtomicInteger budgeted = new AtomicInteger();
+        assertThrows(StaleElementReferenceException.class, () -> POLICY.withBudget(Duration.ZERO).execute("test: budget", Duration.ofSeconds(1), true, timeout -> {
+            budgeted.incrementAndGet();
+            assertEquals(Duration.ZERO, timeout);
+            throw new StaleElementReferenceException("detached");
+        }, () -> {
+        }));
+        assertEquals(1, budgeted.get());
+    }
+}
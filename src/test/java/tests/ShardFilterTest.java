@@ -0,0 +1,40 @@
+package tests;
+
+import base.ShardFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardFilterTest {
+
+    @Test
+    void longestClassesAreSpreadBeforeShortOnes() {
+        Map<String, Long> predicted = Map.of(
+                "a.Slow", 60_000L,
+                "a.Medium", 30_000L,
+                "b.Medium", 30_000L,
+                "a.Fast", 5_000L,
+                "b.Fast", 5_000L
+        );
+
+        Map<String, Integer> shardOf = ShardFilter.assign(predicted, 2);
+
+        assertEquals(predicted.keySet(), shardOf.keySet());
+        assertNotEquals(shardOf.get("a.Slow"), shardOf.get("a.Medium"));
+        assertEquals(shardOf.get("a.Medium"), shardOf.get("b.Medium"));
+        long[] loads = new long[2];
+        shardOf.forEach((testClass, shard) -> loads[shard] += predicted.get(testClass));
+        assertEquals(65_000L, loads[0]);
+        assertEquals(65_000L, loads[1]);
+    }
+
+    @Test
+    void planIsTheSameOnEveryShard() {
+        Map<String, Long> predicted = Map.of("x.One", 1_000L, "x.Two", 1_000L, "x.Three", 1_000L);
+
+        assertEquals(ShardFilter.assign(predicted, 2), ShardFilter.assign(Map.copyOf(predicted), 2));
+        assertEquals(Map.of("x.One", 0, "x.Three", 1, "x.Two", 0), ShardFilter.assign(predicted, 2));
+    }
+}
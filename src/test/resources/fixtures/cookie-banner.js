@@ -0,0 +1,12 @@
+(function () {
+    var banner = document.getElementById('wt-cli-cookie-banner');
+    if (!banner || document.cookie.indexOf('viewed_cookie_policy=yes') >= 0) {
+        return;
+    }
+    banner.style.display = 'block';
+    document.getElementById('wt-cli-accept-all-btn').addEventListener('click', function () {
+        document.cookie = 'viewed_cookie_policy=yes; path=/; max-age=31536000';
+        document.cookie = 'cookielawinfo-checkbox-necessary=yes; path=/; max-age=31536000';
+        banner.style.display = 'none';
+    });
+})();
@@ -0,0 +1,56 @@
+(function () {
+    var list = document.getElementById('jobs-list');
+    var location = document.getElementById('filter-by-location');
+    var department = document.getElementById('filter-by-department');
+    var params = new URLSearchParams(window.location.search);
+    var slug = function (value) {
+        return (value || '').toLowerCase().replace(/[^a-z0-9]/g, '');
+    };
+    var selectBySlug = function (select, wanted) {
+        for (var i = 0; i < select.options.length; i++) {
+            if (slug(select.options[i].value) === slug(wanted)) {
+                select.selectedIndex = i;
+                select.options[i].setAttribute('selected', 'selected');
+                return;
+            }
+        }
+    };
+    var filterValue = function (select) {
+        return select.value === 'All' ? '' : select.value;
+    };
+    var render = function (jobs) {
+        list.innerHTML = '';
+        jobs.forEach(function (job) {
+            var card = document.createElement('div');
+            card.className = 'position-list-item';
+            card.innerHTML =
+                '<p class="position-title"></p>' +
+                '<span class="position-department"></span>' +
+                '<div class="position-location"></div>' +
+                '<a class="btn btn-navy" target="_blank">View Role</a>';
+            card.querySelector('.position-title').textContent = job.title;
+            card.querySelector('.position-department').textContent = job.department;
+            card.querySelector('.position-location').textContent = job.location;
+            card.querySelector('a').href = job.href;
+            list.appendChild(card);
+        });
+    };
+    var load = function () {
+        var query = new URLSearchParams();
+        query.set('department', filterValue(department));
+        query.set('location', filterValue(location));
+        fetch('/api/jobs?' + query.toString())
+            .then(function (response) { return response.json(); })
+            .then(render);
+    };
+
+    if (params.get('department')) {
+        selectBySlug(department, params.get('department'));
+    }
+    if (params.get('location')) {
+        selectBySlug(location, params.get('location'));
+    }
+    location.addEventListener('change', load);
+    department.addEventListener('change', load);
+    load();
+})();